@@ -0,0 +1,340 @@
+package by.malahovski;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Журнал изменений списка для дешёвой репликации.
+ * Каждая операция изменения получает порядковый номер и записывается в кольцевой буфер
+ * фиксированной ёмкости. Подписчик запрашивает изменения начиная с номера, который ему
+ * нужен следующим, и применяет их к своей копии. Если нужные записи уже вытеснены
+ * из буфера, вместо изменений возвращается полный снимок списка. Снимок возвращается
+ * и для номеров меньше базового: так реплика получает содержимое, накопленное списком
+ * до включения журнала.
+ * <p>
+ * Для передачи реплике в другом процессе пакет записывается методом
+ * {@link Delta#writeTo(DataOutput, ElementCodec)} и восстанавливается методом
+ * {@link Delta#readFrom(DataInput, ElementCodec)}; элементы кодирует {@link ElementCodec}.
+ * <p>
+ * Кольцевой буфер хранит сильные ссылки на элементы последних {@code capacity} операций,
+ * даже если эти элементы уже удалены из списка: они освобождаются только после вытеснения
+ * записи следующими операциями.
+ * <p>
+ * Журнал, как и сам список, не синхронизирован.
+ *
+ * @param <T> тип элементов списка
+ */
+public class ChangeLog<T> {
+
+    /**
+     * Тип записанной операции.
+     */
+    public enum Operation {
+        /** Добавление в конец списка. */
+        ADD,
+        /** Вставка по индексу. */
+        INSERT,
+        /** Замена по индексу. */
+        SET,
+        /** Удаление по индексу. */
+        REMOVE
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * Кодирование элементов для передачи пакета изменений между процессами.
+     *
+     * @param <T> тип элементов
+     */
+    public interface ElementCodec<T> {
+
+        /**
+         * Записывает элемент, не равный null.
+         *
+         * @param out     поток записи
+         * @param element элемент
+         * @throws IOException при ошибке записи
+         */
+        void write(DataOutput out, T element) throws IOException;
+
+        /**
+         * Читает элемент, записанный методом {@link #write(DataOutput, Object)}.
+         *
+         * @param in поток чтения
+         * @return элемент
+         * @throws IOException при ошибке чтения
+         */
+        T read(DataInput in) throws IOException;
+    }
+
+    private final byte[] operations;
+    private final int[] indices;
+    private final Object[] elements;
+
+    /**
+     * Источник полного снимка списка-владельца.
+     */
+    private final Supplier<Object[]> snapshot;
+
+    /**
+     * Номер первой записанной операции. Более ранние номера доступны только снимком.
+     */
+    private final long baseSequence;
+
+    /**
+     * Номер, который получит следующая операция.
+     */
+    private long nextSequence;
+
+    /**
+     * Создаёт журнал с указанной ёмкостью кольцевого буфера.
+     *
+     * @param capacity     количество хранимых операций
+     * @param baseSequence номер первой операции журнала
+     * @param snapshot     источник полного снимка списка
+     * @throws IllegalArgumentException если ёмкость не положительна
+     */
+    ChangeLog(int capacity, long baseSequence, Supplier<Object[]> snapshot) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ёмкость журнала должна быть положительной: " + capacity);
+        }
+        this.operations = new byte[capacity];
+        this.indices = new int[capacity];
+        this.elements = new Object[capacity];
+        this.baseSequence = baseSequence;
+        this.nextSequence = baseSequence;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Записывает операцию в журнал, вытесняя самую старую при заполненном буфере.
+     * Буфер держит сильную ссылку на элемент, пока запись не будет вытеснена.
+     */
+    void record(Operation operation, int index, T element) {
+        int slot = (int) (nextSequence % operations.length);
+        operations[slot] = (byte) operation.ordinal();
+        indices[slot] = index;
+        elements[slot] = element;
+        nextSequence++;
+    }
+
+    /**
+     * Возвращает номер, который получит следующая операция.
+     * Подписчик, применивший все изменения, должен передать его в {@link #since(long)}.
+     *
+     * @return номер следующей операции
+     */
+    public long nextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Возвращает номер самой старой операции, ещё хранящейся в буфере.
+     *
+     * @return номер самой старой доступной операции
+     */
+    public long oldestSequence() {
+        return Math.max(baseSequence, nextSequence - operations.length);
+    }
+
+    /**
+     * Возвращает изменения, начиная с операции с указанным номером.
+     * Если эта операция уже вытеснена из буфера, возвращается полный снимок списка.
+     *
+     * @param sequence номер первой нужной подписчику операции
+     * @return изменения или снимок
+     * @throws IllegalArgumentException если номер отрицателен или больше {@link #nextSequence()}
+     */
+    @SuppressWarnings("unchecked")
+    public Delta<T> since(long sequence) {
+        if (sequence < 0 || sequence > nextSequence) {
+            throw new IllegalArgumentException("Некорректный номер операции: " + sequence);
+        }
+        if (sequence < oldestSequence()) {
+            return new Delta<>(nextSequence, (T[]) snapshot.get(), null, null, null);
+        }
+        int count = (int) (nextSequence - sequence);
+        byte[] ops = new byte[count];
+        int[] idx = new int[count];
+        Object[] values = new Object[count];
+        int start = (int) (sequence % operations.length);
+        int first = Math.min(count, operations.length - start);
+        System.arraycopy(operations, start, ops, 0, first);
+        System.arraycopy(indices, start, idx, 0, first);
+        System.arraycopy(elements, start, values, 0, first);
+        System.arraycopy(operations, 0, ops, first, count - first);
+        System.arraycopy(indices, 0, idx, first, count - first);
+        System.arraycopy(elements, 0, values, first, count - first);
+        return new Delta<>(nextSequence, null, ops, idx, (T[]) values);
+    }
+
+    /**
+     * Пакет изменений для реплики: либо последовательность операций, либо полный снимок.
+     *
+     * @param <T> тип элементов списка
+     */
+    public static final class Delta<T> {
+        private final long nextSequence;
+        private final T[] snapshot;
+        private final byte[] operations;
+        private final int[] indices;
+        private final T[] elements;
+
+        private Delta(long nextSequence, T[] snapshot, byte[] operations, int[] indices, T[] elements) {
+            this.nextSequence = nextSequence;
+            this.snapshot = snapshot;
+            this.operations = operations;
+            this.indices = indices;
+            this.elements = elements;
+        }
+
+        /**
+         * Возвращает номер, с которого нужно запрашивать следующий пакет.
+         *
+         * @return номер следующей операции после применения пакета
+         */
+        public long nextSequence() {
+            return nextSequence;
+        }
+
+        /**
+         * Проверяет, является ли пакет полным снимком.
+         *
+         * @return true, если пакет содержит снимок, а не операции
+         */
+        public boolean isSnapshot() {
+            return snapshot != null;
+        }
+
+        /**
+         * Возвращает количество операций или элементов снимка.
+         *
+         * @return размер пакета
+         */
+        public int size() {
+            return snapshot != null ? snapshot.length : operations.length;
+        }
+
+        /**
+         * Применяет пакет к реплике. Снимок полностью заменяет содержимое реплики.
+         *
+         * @param replica список-реплика
+         */
+        public void applyTo(MyList<T> replica) {
+            if (snapshot != null) {
+                while (!replica.isEmpty()) {
+                    replica.remove(replica.size() - 1);
+                }
+                for (T element : snapshot) {
+                    replica.add(element);
+                }
+                return;
+            }
+            for (int i = 0; i < operations.length; i++) {
+                switch (OPERATIONS[operations[i]]) {
+                    case ADD:
+                        replica.add(elements[i]);
+                        break;
+                    case INSERT:
+                        replica.add(indices[i], elements[i]);
+                        break;
+                    case SET:
+                        replica.set(indices[i], elements[i]);
+                        break;
+                    default:
+                        replica.remove(indices[i]);
+                        break;
+                }
+            }
+        }
+
+        /**
+         * Записывает пакет для передачи реплике в другом процессе.
+         * Элементы, равные null, записываются признаком отсутствия, остальные — кодеком.
+         *
+         * @param out   поток записи
+         * @param codec кодирование элементов
+         * @throws IOException при ошибке записи
+         */
+        public void writeTo(DataOutput out, ElementCodec<? super T> codec) throws IOException {
+            out.writeLong(nextSequence);
+            out.writeBoolean(snapshot != null);
+            out.writeInt(size());
+            if (snapshot != null) {
+                for (T element : snapshot) {
+                    writeElement(out, codec, element);
+                }
+                return;
+            }
+            for (int i = 0; i < operations.length; i++) {
+                out.writeByte(operations[i]);
+                out.writeInt(indices[i]);
+                if (OPERATIONS[operations[i]] != Operation.REMOVE) {
+                    writeElement(out, codec, elements[i]);
+                }
+            }
+        }
+
+        /**
+         * Читает пакет, записанный методом {@link #writeTo(DataOutput, ElementCodec)}.
+         *
+         * @param in    поток чтения
+         * @param codec кодирование элементов
+         * @param <T>   тип элементов
+         * @return пакет изменений или снимок
+         * @throws IOException при ошибке чтения или повреждённых данных
+         */
+        @SuppressWarnings("unchecked")
+        public static <T> Delta<T> readFrom(DataInput in, ElementCodec<? extends T> codec) throws IOException {
+            long nextSequence = in.readLong();
+            boolean isSnapshot = in.readBoolean();
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Некорректный размер пакета: " + count);
+            }
+            T[] values = (T[]) new Object[count];
+            if (isSnapshot) {
+                for (int i = 0; i < count; i++) {
+                    values[i] = readElement(in, codec);
+                }
+                return new Delta<>(nextSequence, values, null, null, null);
+            }
+            byte[] ops = new byte[count];
+            int[] idx = new int[count];
+            for (int i = 0; i < count; i++) {
+                ops[i] = in.readByte();
+                if (ops[i] < 0 || ops[i] >= OPERATIONS.length) {
+                    throw new IOException("Неизвестная операция: " + ops[i]);
+                }
+                idx[i] = in.readInt();
+                if (OPERATIONS[ops[i]] != Operation.REMOVE) {
+                    values[i] = readElement(in, codec);
+                }
+            }
+            return new Delta<>(nextSequence, null, ops, idx, values);
+        }
+
+        private static <T> void writeElement(DataOutput out, ElementCodec<? super T> codec, T element)
+                throws IOException {
+            out.writeBoolean(element != null);
+            if (element != null) {
+                codec.write(out, element);
+            }
+        }
+
+        private static <T> T readElement(DataInput in, ElementCodec<? extends T> codec) throws IOException {
+            return in.readBoolean() ? codec.read(in) : null;
+        }
+
+        @Override
+        public String toString() {
+            return isSnapshot()
+                    ? "Snapshot" + Arrays.toString(snapshot)
+                    : "Delta[operations=" + operations.length + ", nextSequence=" + nextSequence + "]";
+        }
+    }
+}
@@ -0,0 +1,593 @@
+package by.malahovski;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Колоночный список записей: каждое поле хранится в собственном примитивном массиве
+ * ({@code long[]}, {@code int[]} или {@code double[]}), а все колонки растут вместе,
+ * как массив в {@link MyArrayList}. Суммы по одной колонке проходят по плотному
+ * массиву примитивов без разыменования объектов простым счётным циклом, который JIT
+ * может векторизовать. Фильтры с предикатом вызывают его для каждой строки и собирают
+ * индексы подходящих строк, поэтому не векторизуются, но тоже обходятся без объектов-записей.
+ * Поиск и агрегаты по колонкам {@code long} и {@code double} выполняются через
+ * {@link PrimitiveKernels}, которые при сборке с профилем {@code vector} используют Vector API.
+ */
+public class ColumnarList {
+
+    /**
+     * Тип колонки.
+     */
+    public enum ColumnType {
+        LONG, INT, DOUBLE
+    }
+
+    /**
+     * Начальная ёмкость колонок по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Типы колонок в порядке их объявления.
+     */
+    private final ColumnType[] types;
+
+    /**
+     * Массивы колонок: {@code long[]}, {@code int[]} или {@code double[]} в соответствии с {@link #types}.
+     */
+    private final Object[] columns;
+
+    private final PrimitiveKernels kernels = PrimitiveKernels.get();
+
+    private int capacity;
+
+    /**
+     * Текущее количество строк.
+     */
+    private int size;
+
+    /**
+     * Создаёт список с указанными колонками и начальной ёмкостью.
+     *
+     * @param types типы колонок
+     * @throws IllegalArgumentException если не указано ни одной колонки
+     */
+    public ColumnarList(ColumnType... types) {
+        if (types.length == 0) {
+            throw new IllegalArgumentException("Необходима хотя бы одна колонка");
+        }
+        this.types = types.clone();
+        this.columns = new Object[types.length];
+        this.capacity = DEFAULT_CAPACITY;
+        for (int c = 0; c < types.length; c++) {
+            columns[c] = allocate(types[c], capacity);
+        }
+    }
+
+    private static Object allocate(ColumnType type, int capacity) {
+        switch (type) {
+            case LONG:
+                return new long[capacity];
+            case INT:
+                return new int[capacity];
+            default:
+                return new double[capacity];
+        }
+    }
+
+    /**
+     * Увеличивает ёмкость всех колонок в 1,5 раза, если они заполнены.
+     */
+    private void ensureCapacity() {
+        if (size >= capacity) {
+            capacity = capacity + (capacity >> 1);
+            for (int c = 0; c < columns.length; c++) {
+                Object column = columns[c];
+                if (column instanceof long[]) {
+                    columns[c] = Arrays.copyOf((long[]) column, capacity);
+                } else if (column instanceof int[]) {
+                    columns[c] = Arrays.copyOf((int[]) column, capacity);
+                } else {
+                    columns[c] = Arrays.copyOf((double[]) column, capacity);
+                }
+            }
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список пуст");
+        }
+    }
+
+    private void checkColumn(int column, ColumnType expected) {
+        if (column < 0 || column >= types.length) {
+            throw new IndexOutOfBoundsException("Column: " + column);
+        }
+        if (types[column] != expected) {
+            throw new IllegalArgumentException("Колонка " + column + " имеет тип " + types[column] + ", ожидался " + expected);
+        }
+    }
+
+    /**
+     * Добавляет в конец списка строку, заполненную нулями.
+     *
+     * @return индекс добавленной строки
+     */
+    public int addRow() {
+        ensureCapacity();
+        return size++;
+    }
+
+    /**
+     * Удаляет строку по индексу, сдвигая последующие строки во всех колонках.
+     *
+     * @param index индекс удаляемой строки
+     * @throws IndexOutOfBoundsException если индекс выходит за границы
+     */
+    public void removeRow(int index) {
+        checkIndex(index);
+        int numMoved = size - index - 1;
+        size--;
+        for (Object column : columns) {
+            if (numMoved > 0) {
+                System.arraycopy(column, index + 1, column, index, numMoved);
+            }
+            if (column instanceof long[]) {
+                ((long[]) column)[size] = 0L;
+            } else if (column instanceof int[]) {
+                ((int[]) column)[size] = 0;
+            } else {
+                ((double[]) column)[size] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * Возвращает значение колонки типа {@link ColumnType#LONG} в указанной строке.
+     *
+     * @param row    индекс строки
+     * @param column индекс колонки
+     * @return значение поля
+     * @throws IndexOutOfBoundsException если строка или колонка выходят за границы
+     * @throws IllegalArgumentException  если колонка имеет другой тип
+     */
+    public long getLong(int row, int column) {
+        checkIndex(row);
+        checkColumn(column, ColumnType.LONG);
+        return ((long[]) columns[column])[row];
+    }
+
+    /**
+     * Возвращает значение колонки типа {@link ColumnType#INT} в указанной строке.
+     *
+     * @param row    индекс строки
+     * @param column индекс колонки
+     * @return значение поля
+     * @throws IndexOutOfBoundsException если строка или колонка выходят за границы
+     * @throws IllegalArgumentException  если колонка имеет другой тип
+     */
+    public int getInt(int row, int column) {
+        checkIndex(row);
+        checkColumn(column, ColumnType.INT);
+        return ((int[]) columns[column])[row];
+    }
+
+    /**
+     * Возвращает значение колонки типа {@link ColumnType#DOUBLE} в указанной строке.
+     *
+     * @param row    индекс строки
+     * @param column индекс колонки
+     * @return значение поля
+     * @throws IndexOutOfBoundsException если строка или колонка выходят за границы
+     * @throws IllegalArgumentException  если колонка имеет другой тип
+     */
+    public double getDouble(int row, int column) {
+        checkIndex(row);
+        checkColumn(column, ColumnType.DOUBLE);
+        return ((double[]) columns[column])[row];
+    }
+
+    /**
+     * Записывает значение в колонку типа {@link ColumnType#LONG} в указанной строке.
+     *
+     * @param row    индекс строки
+     * @param column индекс колонки
+     * @param value  новое значение поля
+     * @throws IndexOutOfBoundsException если строка или колонка выходят за границы
+     * @throws IllegalArgumentException  если колонка имеет другой тип
+     */
+    public void setLong(int row, int column, long value) {
+        checkIndex(row);
+        checkColumn(column, ColumnType.LONG);
+        ((long[]) columns[column])[row] = value;
+    }
+
+    /**
+     * Записывает значение в колонку типа {@link ColumnType#INT} в указанной строке.
+     *
+     * @param row    индекс строки
+     * @param column индекс колонки
+     * @param value  новое значение поля
+     * @throws IndexOutOfBoundsException если строка или колонка выходят за границы
+     * @throws IllegalArgumentException  если колонка имеет другой тип
+     */
+    public void setInt(int row, int column, int value) {
+        checkIndex(row);
+        checkColumn(column, ColumnType.INT);
+        ((int[]) columns[column])[row] = value;
+    }
+
+    /**
+     * Записывает значение в колонку типа {@link ColumnType#DOUBLE} в указанной строке.
+     *
+     * @param row    индекс строки
+     * @param column индекс колонки
+     * @param value  новое значение поля
+     * @throws IndexOutOfBoundsException если строка или колонка выходят за границы
+     * @throws IllegalArgumentException  если колонка имеет другой тип
+     */
+    public void setDouble(int row, int column, double value) {
+        checkIndex(row);
+        checkColumn(column, ColumnType.DOUBLE);
+        ((double[]) columns[column])[row] = value;
+    }
+
+    /**
+     * Возвращает сумму значений колонки типа {@link ColumnType#LONG}.
+     *
+     * @param column индекс колонки
+     * @return сумма значений
+     */
+    public long sumLong(int column) {
+        checkColumn(column, ColumnType.LONG);
+        return kernels.sum((long[]) columns[column], size);
+    }
+
+    /**
+     * Возвращает сумму значений колонки типа {@link ColumnType#INT} без переполнения int.
+     *
+     * @param column индекс колонки
+     * @return сумма значений
+     */
+    public long sumInt(int column) {
+        checkColumn(column, ColumnType.INT);
+        int[] data = (int[]) columns[column];
+        int n = size;
+        long sum = 0L;
+        for (int i = 0; i < n; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Возвращает сумму значений колонки типа {@link ColumnType#DOUBLE}.
+     * Порядок сложения зависит от выбранной реализации {@link PrimitiveKernels},
+     * поэтому последние разряды результата могут различаться между сборками.
+     *
+     * @param column индекс колонки
+     * @return сумма значений
+     */
+    public double sumDouble(int column) {
+        checkColumn(column, ColumnType.DOUBLE);
+        return kernels.sum((double[]) columns[column], size);
+    }
+
+    /**
+     * Возвращает индексы строк, значение колонки типа {@link ColumnType#LONG} в которых удовлетворяет условию.
+     *
+     * @param column    индекс колонки
+     * @param predicate условие отбора
+     * @return индексы подходящих строк в порядке возрастания
+     */
+    public int[] filterLong(int column, LongPredicate predicate) {
+        checkColumn(column, ColumnType.LONG);
+        long[] data = (long[]) columns[column];
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(data[i])) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Возвращает индексы строк, значение колонки типа {@link ColumnType#INT} в которых удовлетворяет условию.
+     *
+     * @param column    индекс колонки
+     * @param predicate условие отбора
+     * @return индексы подходящих строк в порядке возрастания
+     */
+    public int[] filterInt(int column, IntPredicate predicate) {
+        checkColumn(column, ColumnType.INT);
+        int[] data = (int[]) columns[column];
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(data[i])) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Возвращает индексы строк, значение колонки типа {@link ColumnType#DOUBLE} в которых удовлетворяет условию.
+     *
+     * @param column    индекс колонки
+     * @param predicate условие отбора
+     * @return индексы подходящих строк в порядке возрастания
+     */
+    public int[] filterDouble(int column, DoublePredicate predicate) {
+        checkColumn(column, ColumnType.DOUBLE);
+        double[] data = (double[]) columns[column];
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(data[i])) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Возвращает индекс первой строки, значение колонки типа {@link ColumnType#LONG} в которой равно указанному.
+     *
+     * @param column индекс колонки
+     * @param value  искомое значение
+     * @return индекс строки или -1, если значение не найдено
+     */
+    public int indexOfLong(int column, long value) {
+        checkColumn(column, ColumnType.LONG);
+        return kernels.indexOf((long[]) columns[column], size, value);
+    }
+
+    /**
+     * Возвращает количество строк, значение колонки типа {@link ColumnType#LONG} в которых равно указанному.
+     *
+     * @param column индекс колонки
+     * @param value  искомое значение
+     * @return количество совпадений
+     */
+    public int countLong(int column, long value) {
+        checkColumn(column, ColumnType.LONG);
+        return kernels.count((long[]) columns[column], size, value);
+    }
+
+    /**
+     * Возвращает минимальное значение колонки типа {@link ColumnType#LONG}.
+     *
+     * @param column индекс колонки
+     * @return минимальное значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public long minLong(int column) {
+        checkColumn(column, ColumnType.LONG);
+        checkNotEmpty();
+        return kernels.min((long[]) columns[column], size);
+    }
+
+    /**
+     * Возвращает максимальное значение колонки типа {@link ColumnType#LONG}.
+     *
+     * @param column индекс колонки
+     * @return максимальное значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public long maxLong(int column) {
+        checkColumn(column, ColumnType.LONG);
+        checkNotEmpty();
+        return kernels.max((long[]) columns[column], size);
+    }
+
+    /**
+     * Возвращает минимальное значение колонки типа {@link ColumnType#DOUBLE}.
+     *
+     * @param column индекс колонки
+     * @return минимальное значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public double minDouble(int column) {
+        checkColumn(column, ColumnType.DOUBLE);
+        checkNotEmpty();
+        return kernels.min((double[]) columns[column], size);
+    }
+
+    /**
+     * Возвращает максимальное значение колонки типа {@link ColumnType#DOUBLE}.
+     *
+     * @param column индекс колонки
+     * @return максимальное значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public double maxDouble(int column) {
+        checkColumn(column, ColumnType.DOUBLE);
+        checkNotEmpty();
+        return kernels.max((double[]) columns[column], size);
+    }
+
+    /**
+     * Отмечает в битовой маске строки, значение колонки типа {@link ColumnType#LONG} в которых лежит в [from, to).
+     *
+     * @param column индекс колонки
+     * @param from   нижняя граница (включительно)
+     * @param to     верхняя граница (исключительно)
+     * @return маска, в которой бит {@code i} слова {@code i >> 6} установлен для подходящей строки {@code i}
+     */
+    public long[] filterLongBetween(int column, long from, long to) {
+        checkColumn(column, ColumnType.LONG);
+        return kernels.filterBetween((long[]) columns[column], size, from, to);
+    }
+
+    /**
+     * Отмечает в битовой маске строки, значение колонки типа {@link ColumnType#DOUBLE} в которых лежит в [from, to).
+     *
+     * @param column индекс колонки
+     * @param from   нижняя граница (включительно)
+     * @param to     верхняя граница (исключительно)
+     * @return маска, в которой бит {@code i} слова {@code i >> 6} установлен для подходящей строки {@code i}
+     */
+    public long[] filterDoubleBetween(int column, double from, double to) {
+        checkColumn(column, ColumnType.DOUBLE);
+        return kernels.filterBetween((double[]) columns[column], size, from, to);
+    }
+
+    /**
+     * Возвращает переиспользуемый курсор для построчного доступа без создания объектов на каждую строку.
+     *
+     * @return курсор, не установленный ни на одну строку
+     */
+    public Row cursor() {
+        return new Row();
+    }
+
+    /**
+     * Возвращает текущее количество строк.
+     *
+     * @return количество строк
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     *
+     * @return true, если строк нет, иначе false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает количество колонок.
+     *
+     * @return количество колонок
+     */
+    public int columnCount() {
+        return types.length;
+    }
+
+    /**
+     * Курсор-легковес: один объект перемещается по строкам и читает или пишет поля текущей строки.
+     */
+    public final class Row {
+        private int index = -1;
+
+        private Row() {
+        }
+
+        /**
+         * Устанавливает курсор на строку с указанным индексом.
+         *
+         * @param index индекс строки
+         * @return этот же курсор
+         * @throws IndexOutOfBoundsException если индекс выходит за границы
+         */
+        public Row at(int index) {
+            checkIndex(index);
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Возвращает индекс строки, на которой стоит курсор.
+         *
+         * @return индекс текущей строки или -1, если курсор ещё не установлен
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Возвращает значение колонки типа {@link ColumnType#LONG} в текущей строке.
+         *
+         * @param column индекс колонки
+         * @return значение поля
+         * @throws IndexOutOfBoundsException если курсор не установлен, строка удалена или колонка выходит за границы
+         * @throws IllegalArgumentException  если колонка имеет другой тип
+         */
+        public long getLong(int column) {
+            return ColumnarList.this.getLong(index, column);
+        }
+
+        /**
+         * Возвращает значение колонки типа {@link ColumnType#INT} в текущей строке.
+         *
+         * @param column индекс колонки
+         * @return значение поля
+         * @throws IndexOutOfBoundsException если курсор не установлен, строка удалена или колонка выходит за границы
+         * @throws IllegalArgumentException  если колонка имеет другой тип
+         */
+        public int getInt(int column) {
+            return ColumnarList.this.getInt(index, column);
+        }
+
+        /**
+         * Возвращает значение колонки типа {@link ColumnType#DOUBLE} в текущей строке.
+         *
+         * @param column индекс колонки
+         * @return значение поля
+         * @throws IndexOutOfBoundsException если курсор не установлен, строка удалена или колонка выходит за границы
+         * @throws IllegalArgumentException  если колонка имеет другой тип
+         */
+        public double getDouble(int column) {
+            return ColumnarList.this.getDouble(index, column);
+        }
+
+        /**
+         * Записывает значение в колонку типа {@link ColumnType#LONG} текущей строки.
+         *
+         * @param column индекс колонки
+         * @param value  новое значение поля
+         * @return этот же курсор
+         * @throws IndexOutOfBoundsException если курсор не установлен, строка удалена или колонка выходит за границы
+         * @throws IllegalArgumentException  если колонка имеет другой тип
+         */
+        public Row setLong(int column, long value) {
+            ColumnarList.this.setLong(index, column, value);
+            return this;
+        }
+
+        /**
+         * Записывает значение в колонку типа {@link ColumnType#INT} текущей строки.
+         *
+         * @param column индекс колонки
+         * @param value  новое значение поля
+         * @return этот же курсор
+         * @throws IndexOutOfBoundsException если курсор не установлен, строка удалена или колонка выходит за границы
+         * @throws IllegalArgumentException  если колонка имеет другой тип
+         */
+        public Row setInt(int column, int value) {
+            ColumnarList.this.setInt(index, column, value);
+            return this;
+        }
+
+        /**
+         * Записывает значение в колонку типа {@link ColumnType#DOUBLE} текущей строки.
+         *
+         * @param column индекс колонки
+         * @param value  новое значение поля
+         * @return этот же курсор
+         * @throws IndexOutOfBoundsException если курсор не установлен, строка удалена или колонка выходит за границы
+         * @throws IllegalArgumentException  если колонка имеет другой тип
+         */
+        public Row setDouble(int column, double value) {
+            ColumnarList.this.setDouble(index, column, value);
+            return this;
+        }
+    }
+}
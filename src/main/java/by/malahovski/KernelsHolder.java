@@ -0,0 +1,21 @@
+package by.malahovski;
+
+/**
+ * Ленивая инициализация реализации {@link PrimitiveKernels}, выбираемой при первом обращении.
+ */
+final class KernelsHolder {
+
+    static final PrimitiveKernels INSTANCE = load();
+
+    private KernelsHolder() {
+    }
+
+    private static PrimitiveKernels load() {
+        try {
+            return (PrimitiveKernels) Class.forName(PrimitiveKernels.VECTOR_IMPLEMENTATION)
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarKernels();
+        }
+    }
+}
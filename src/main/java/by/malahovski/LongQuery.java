@@ -0,0 +1,183 @@
+package by.malahovski;
+
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Ленивый запрос над значениями {@code long}, получаемый из {@link Query#mapToLong}.
+ * Значения передаются между стадиями без упаковки в {@link Long}.
+ */
+public final class LongQuery {
+
+    /**
+     * Источник значений: передаёт значения приёмнику, пока тот не попросит остановиться.
+     */
+    @FunctionalInterface
+    interface Source {
+        void drive(Sink sink);
+    }
+
+    /**
+     * Приёмник значений.
+     */
+    @FunctionalInterface
+    interface Sink {
+        /**
+         * Принимает значение.
+         *
+         * @return false, если обход нужно прекратить
+         */
+        boolean accept(long value);
+    }
+
+    private final Source source;
+
+    LongQuery(Source source) {
+        this.source = source;
+    }
+
+    /**
+     * Оставляет только значения, удовлетворяющие условию.
+     *
+     * @param predicate условие отбора
+     * @return новый запрос
+     */
+    public LongQuery filter(LongPredicate predicate) {
+        return new LongQuery(sink -> source.drive(value -> !predicate.test(value) || sink.accept(value)));
+    }
+
+    /**
+     * Преобразует каждое значение.
+     *
+     * @param mapper функция преобразования
+     * @return новый запрос
+     */
+    public LongQuery map(LongUnaryOperator mapper) {
+        return new LongQuery(sink -> source.drive(value -> sink.accept(mapper.applyAsLong(value))));
+    }
+
+    /**
+     * Ограничивает количество значений. Обход прекращается после последнего нужного значения.
+     *
+     * @param maxSize максимальное количество значений
+     * @return новый запрос
+     * @throws IllegalArgumentException если maxSize отрицателен
+     */
+    public LongQuery limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize: " + maxSize);
+        }
+        return new LongQuery(sink -> {
+            if (maxSize == 0) {
+                return;
+            }
+            long[] remaining = {maxSize};
+            source.drive(value -> sink.accept(value) && --remaining[0] > 0);
+        });
+    }
+
+    /**
+     * Пропускает первые значения.
+     *
+     * @param n количество пропускаемых значений
+     * @return новый запрос
+     * @throws IllegalArgumentException если n отрицательно
+     */
+    public LongQuery skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n: " + n);
+        }
+        return new LongQuery(sink -> {
+            long[] skipped = {0L};
+            source.drive(value -> skipped[0]++ < n || sink.accept(value));
+        });
+    }
+
+    /**
+     * Выполняет действие для каждого значения.
+     *
+     * @param action действие
+     */
+    public void forEach(LongConsumer action) {
+        source.drive(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    /**
+     * Проверяет, удовлетворяет ли условию хотя бы одно значение. Обход прекращается на первом совпадении.
+     *
+     * @param predicate условие
+     * @return true, если найдено подходящее значение
+     */
+    public boolean anyMatch(LongPredicate predicate) {
+        boolean[] found = {false};
+        source.drive(value -> !(found[0] = predicate.test(value)));
+        return found[0];
+    }
+
+    /**
+     * Возвращает сумму значений.
+     *
+     * @return сумма значений
+     */
+    public long sum() {
+        long[] sum = {0L};
+        source.drive(value -> {
+            sum[0] += value;
+            return true;
+        });
+        return sum[0];
+    }
+
+    /**
+     * Возвращает количество значений.
+     *
+     * @return количество значений
+     */
+    public long count() {
+        long[] count = {0L};
+        source.drive(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Возвращает минимальное значение.
+     *
+     * @return минимальное значение
+     * @throws NoSuchElementException если значений нет
+     */
+    public long min() {
+        return reduceExtreme(true);
+    }
+
+    /**
+     * Возвращает максимальное значение.
+     *
+     * @return максимальное значение
+     * @throws NoSuchElementException если значений нет
+     */
+    public long max() {
+        return reduceExtreme(false);
+    }
+
+    private long reduceExtreme(boolean min) {
+        long[] result = {min ? Long.MAX_VALUE : Long.MIN_VALUE};
+        boolean[] found = {false};
+        source.drive(value -> {
+            result[0] = min ? Math.min(result[0], value) : Math.max(result[0], value);
+            found[0] = true;
+            return true;
+        });
+        if (!found[0]) {
+            throw new NoSuchElementException();
+        }
+        return result[0];
+    }
+}
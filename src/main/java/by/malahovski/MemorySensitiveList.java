@@ -0,0 +1,611 @@
+package by.malahovski;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Список для больших кэшей, хранящий элементы через мягкие или слабые ссылки,
+ * наследующий интерфейс {@link MyList}. Сборщик мусора может освободить элемент,
+ * после чего ячейка остаётся пустой до уплотнения: {@link #get(int)} возвращает для неё null,
+ * а {@link #size()} учитывает её, пока {@link #compact()} не удалит её из списка.
+ * <p>
+ * Уплотнение можно запускать вручную или в фоновом потоке ({@link #startBackgroundCompaction()}),
+ * который ждёт освобождённые ссылки в {@link ReferenceQueue}. Метод {@link #watchMemoryPressure(double, double)}
+ * подписывает список на уведомления {@link MemoryPoolMXBean} о превышении порога заполнения кучи,
+ * при которых список сбрасывает заданную долю самых старых элементов.
+ * <p>
+ * Все методы синхронизированы, так как список изменяется фоновыми потоками.
+ * Фоновый поток и подписка удерживают список, поэтому по окончании работы нужно вызвать {@link #close()}.
+ *
+ * @param <T> тип элементов списка
+ */
+public class MemorySensitiveList<T> implements MyList<T>, Iterable<T>, AutoCloseable {
+
+    /**
+     * Сила ссылок на элементы.
+     */
+    public enum Strength {
+        /** Элементы освобождаются только при нехватке памяти. */
+        SOFT,
+        /** Элементы освобождаются при первой сборке мусора, если на них нет сильных ссылок. */
+        WEAK
+    }
+
+    /**
+     * Начальная ёмкость массива по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Оценка размера элемента по умолчанию: заголовок объекта и несколько полей.
+     */
+    private static final long DEFAULT_ELEMENT_BYTES = 32L;
+
+    private final Strength strength;
+    private final ToLongFunction<? super T> sizeEstimator;
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    /**
+     * Массив ссылок на элементы списка.
+     */
+    private Object[] references;
+
+    /**
+     * Текущий размер списка, включая ещё не уплотнённые освобождённые ячейки.
+     */
+    private int size;
+
+    private long collectedCount;
+    private long shedCount;
+    private long reclaimedBytes;
+
+    private Thread compactor;
+    private NotificationListener pressureListener;
+    private double usageThreshold;
+    private double shedFraction;
+
+    /**
+     * Общий для всей JVM учёт списков, следящих за заполнением кучи. Порог пула один
+     * на JVM, поэтому он устанавливается при первой подписке, всегда равен наименьшему
+     * порогу среди подписанных списков и восстанавливается только после отписки последнего.
+     */
+    private static final class PressureWatchers {
+
+        private static final Map<MemorySensitiveList<?>, Double> thresholds = new IdentityHashMap<>();
+        private static MemoryPoolMXBean[] pools = new MemoryPoolMXBean[0];
+        private static long[] originalThresholds = new long[0];
+        private static long[] appliedThresholds = new long[0];
+
+        private PressureWatchers() {
+        }
+
+        static synchronized void register(MemorySensitiveList<?> list, double usageThreshold) {
+            if (thresholds.isEmpty()) {
+                pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                        .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                                && pool.getUsage().getMax() > 0)
+                        .toArray(MemoryPoolMXBean[]::new);
+                originalThresholds = new long[pools.length];
+                appliedThresholds = new long[pools.length];
+                for (int i = 0; i < pools.length; i++) {
+                    originalThresholds[i] = pools[i].getUsageThreshold();
+                }
+            }
+            thresholds.put(list, usageThreshold);
+            apply();
+        }
+
+        static synchronized void unregister(MemorySensitiveList<?> list) {
+            if (thresholds.remove(list) == null) {
+                return;
+            }
+            if (!thresholds.isEmpty()) {
+                apply();
+                return;
+            }
+            for (int i = 0; i < pools.length; i++) {
+                if (pools[i].getUsageThreshold() == appliedThresholds[i]) {
+                    pools[i].setUsageThreshold(originalThresholds[i]);
+                }
+            }
+            pools = new MemoryPoolMXBean[0];
+            originalThresholds = new long[0];
+            appliedThresholds = new long[0];
+        }
+
+        private static void apply() {
+            double lowest = thresholds.values().stream().mapToDouble(Double::doubleValue).min().orElse(1.0);
+            for (int i = 0; i < pools.length; i++) {
+                appliedThresholds[i] = (long) (pools[i].getUsage().getMax() * lowest);
+                pools[i].setUsageThreshold(appliedThresholds[i]);
+            }
+        }
+    }
+
+    /**
+     * Ссылка на элемент, запоминающая оценку его размера.
+     */
+    private interface Entry {
+        long estimatedBytes();
+    }
+
+    private static final class SoftEntry<T> extends SoftReference<T> implements Entry {
+        private final long estimatedBytes;
+
+        SoftEntry(T referent, ReferenceQueue<? super T> queue, long estimatedBytes) {
+            super(referent, queue);
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        @Override
+        public long estimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+
+    private static final class WeakEntry<T> extends WeakReference<T> implements Entry {
+        private final long estimatedBytes;
+
+        WeakEntry(T referent, ReferenceQueue<? super T> queue, long estimatedBytes) {
+            super(referent, queue);
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        @Override
+        public long estimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+
+    /**
+     * Создаёт список с фиксированной оценкой размера элемента.
+     *
+     * @param strength сила ссылок на элементы
+     */
+    public MemorySensitiveList(Strength strength) {
+        this(strength, element -> DEFAULT_ELEMENT_BYTES);
+    }
+
+    /**
+     * Создаёт список с заданной оценкой размера элементов.
+     *
+     * @param strength      сила ссылок на элементы
+     * @param sizeEstimator оценка размера элемента в байтах, вычисляемая при добавлении
+     */
+    public MemorySensitiveList(Strength strength, ToLongFunction<? super T> sizeEstimator) {
+        this.strength = Objects.requireNonNull(strength, "strength");
+        this.sizeEstimator = Objects.requireNonNull(sizeEstimator, "sizeEstimator");
+        this.references = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Увеличивает ёмкость массива в 1,5 раза, если он заполнен
+     */
+    private void ensureCapacity() {
+        if (size >= references.length) {
+            references = Arrays.copyOf(references, references.length + (references.length >> 1));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    private Reference<T> wrap(T element) {
+        Objects.requireNonNull(element, "element");
+        long bytes = sizeEstimator.applyAsLong(element);
+        return strength == Strength.SOFT
+                ? new SoftEntry<>(element, queue, bytes)
+                : new WeakEntry<>(element, queue, bytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Reference<T> referenceAt(int index) {
+        return (Reference<T>) references[index];
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если элемент равен null
+     */
+    @Override
+    public synchronized void add(T element) {
+        Reference<T> reference = wrap(element);
+        ensureCapacity();
+        references[size++] = reference;
+    }
+
+    /**
+     * Добавляет элемент в заданную позицию списка.
+     *
+     * @param index   индекс, куда нужно вставить элемент
+     * @param element элемент, который нужно вставить
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы [0, size]
+     * @throws NullPointerException      если элемент равен null
+     */
+    @Override
+    public synchronized void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        Reference<T> reference = wrap(element);
+        ensureCapacity();
+        System.arraycopy(references, index, references, index + 1, size - index);
+        references[index] = reference;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент по индексу.
+     *
+     * @param index индекс элемента
+     * @return элемент или null, если он уже освобождён сборщиком мусора
+     * @throws IndexOutOfBoundsException если индекс выходит за границы
+     */
+    @Override
+    public synchronized T get(int index) {
+        checkIndex(index);
+        return referenceAt(index).get();
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции списка.
+     *
+     * @param index   индекс заменяемого элемента
+     * @param element новый элемент
+     * @return старый элемент или null, если он уже освобождён
+     * @throws IndexOutOfBoundsException если индекс выходит за границы
+     * @throws NullPointerException      если элемент равен null
+     */
+    @Override
+    public synchronized T set(int index, T element) {
+        checkIndex(index);
+        Reference<T> reference = wrap(element);
+        Reference<T> oldReference = referenceAt(index);
+        T oldElement = oldReference.get();
+        oldReference.clear();
+        references[index] = reference;
+        return oldElement;
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удалённый элемент или null, если он уже освобождён
+     * @throws IndexOutOfBoundsException если индекс выходит за границы
+     */
+    @Override
+    public synchronized T remove(int index) {
+        checkIndex(index);
+        Reference<T> removedReference = referenceAt(index);
+        T removedElement = removedReference.get();
+        removedReference.clear();
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(references, index + 1, references, index, numMoved);
+        }
+        references[--size] = null;
+        return removedElement;
+    }
+
+    /**
+     * Удаляет первый найденный элемент, равный указанному.
+     *
+     * @param element элемент, который нужно удалить
+     * @return true, если элемент был найден и удалён, иначе false
+     */
+    @Override
+    public synchronized boolean remove(T element) {
+        for (int i = 0; i < size; i++) {
+            T current = referenceAt(i).get();
+            if (current != null && current.equals(element)) {
+                remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает размер списка, включая освобождённые, но ещё не уплотнённые ячейки.
+     *
+     * @return количество ячеек в списке
+     */
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     *
+     * @return true, если список пуст, иначе false
+     */
+    @Override
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет из списка ячейки, элементы которых освобождены сборщиком мусора,
+     * сохраняя порядок оставшихся элементов.
+     *
+     * @return количество удалённых ячеек
+     */
+    public synchronized int compact() {
+        while (queue.poll() != null) {
+            // Очередь служит только сигналом: освобождённые ячейки находит проход ниже.
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Reference<T> reference = referenceAt(i);
+            if (reference.get() == null) {
+                reclaimedBytes += ((Entry) reference).estimatedBytes();
+            } else {
+                references[kept++] = reference;
+            }
+        }
+        int removed = size - kept;
+        Arrays.fill(references, kept, size, null);
+        size = kept;
+        collectedCount += removed;
+        return removed;
+    }
+
+    /**
+     * Сбрасывает долю самых старых элементов (из начала списка).
+     *
+     * @param fraction доля элементов от 0 до 1
+     * @return количество сброшенных элементов
+     * @throws IllegalArgumentException если доля вне диапазона [0, 1]
+     */
+    public synchronized int shed(double fraction) {
+        if (fraction < 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("Доля должна быть в диапазоне [0, 1]: " + fraction);
+        }
+        int count = (int) Math.ceil(size * fraction);
+        for (int i = 0; i < count; i++) {
+            Reference<T> reference = referenceAt(i);
+            reclaimedBytes += ((Entry) reference).estimatedBytes();
+            reference.clear();
+        }
+        System.arraycopy(references, count, references, 0, size - count);
+        Arrays.fill(references, size - count, size, null);
+        size -= count;
+        shedCount += count;
+        return count;
+    }
+
+    /**
+     * Запускает фоновый поток-демон, уплотняющий список по мере освобождения элементов.
+     * Повторный вызов ничего не делает.
+     */
+    public synchronized void startBackgroundCompaction() {
+        if (compactor != null) {
+            return;
+        }
+        compactor = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    queue.remove();
+                    compact();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "MemorySensitiveList-compactor");
+        compactor.setDaemon(true);
+        compactor.start();
+    }
+
+    /**
+     * Подписывает список на уведомления о превышении порога заполнения кучи.
+     * Порог пула действует на всю JVM, поэтому подписки всех списков учитываются вместе:
+     * устанавливается наименьший из порогов, а прежний порог восстанавливается, когда
+     * отписывается последний список, если его с тех пор никто не изменил.
+     * Список с более высоким порогом сбрасывает элементы только тогда, когда заполнение
+     * пула из уведомления достигло его собственного порога.
+     * При каждом уведомлении список сбрасывает долю {@code shedFraction} самых старых элементов.
+     *
+     * @param usageThreshold доля максимального размера пула, при превышении которой приходит уведомление
+     * @param shedFraction   доля сбрасываемых элементов
+     * @throws IllegalArgumentException если доли вне диапазона (0, 1]
+     */
+    public synchronized void watchMemoryPressure(double usageThreshold, double shedFraction) {
+        if (usageThreshold <= 0.0 || usageThreshold > 1.0 || shedFraction <= 0.0 || shedFraction > 1.0) {
+            throw new IllegalArgumentException("Доли должны быть в диапазоне (0, 1]");
+        }
+        stopWatchingMemoryPressure();
+        this.usageThreshold = usageThreshold;
+        this.shedFraction = shedFraction;
+        PressureWatchers.register(this, usageThreshold);
+        pressureListener = (notification, handback) -> onMemoryNotification(notification);
+        ((NotificationEmitter) ManagementFactory.getMemoryMXBean())
+                .addNotificationListener(pressureListener, null, null);
+    }
+
+    /**
+     * Обрабатывает уведомление о памяти: при превышении порога сбрасывает
+     * долю самых старых элементов, заданную в {@link #watchMemoryPressure(double, double)}.
+     * Если уведомление содержит заполнение пула ниже порога этого списка, элементы не сбрасываются.
+     *
+     * @param notification уведомление {@link java.lang.management.MemoryMXBean}
+     */
+    void onMemoryNotification(Notification notification) {
+        if (!MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+            return;
+        }
+        double fraction;
+        synchronized (this) {
+            if (pressureListener == null) {
+                return;
+            }
+            if (notification.getUserData() instanceof CompositeData) {
+                MemoryUsage usage = MemoryNotificationInfo.from((CompositeData) notification.getUserData()).getUsage();
+                if (usage.getMax() > 0 && usage.getUsed() < usage.getMax() * usageThreshold) {
+                    return;
+                }
+            }
+            fraction = shedFraction;
+        }
+        shed(fraction);
+    }
+
+    private void stopWatchingMemoryPressure() {
+        if (pressureListener == null) {
+            return;
+        }
+        try {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(pressureListener);
+        } catch (ListenerNotFoundException e) {
+            // Слушатель уже снят.
+        }
+        pressureListener = null;
+        PressureWatchers.unregister(this);
+    }
+
+    /**
+     * Останавливает фоновое уплотнение, отписывается от уведомлений о памяти
+     * и восстанавливает прежние пороги пулов кучи.
+     */
+    @Override
+    public synchronized void close() {
+        if (compactor != null) {
+            compactor.interrupt();
+            compactor = null;
+        }
+        stopWatchingMemoryPressure();
+    }
+
+    /**
+     * Возвращает количество элементов, освобождённых сборщиком мусора и удалённых уплотнением.
+     *
+     * @return количество вытесненных сборщиком элементов
+     */
+    public synchronized long getCollectedCount() {
+        return collectedCount;
+    }
+
+    /**
+     * Возвращает количество элементов, сброшенных из-за нехватки памяти.
+     *
+     * @return количество сброшенных элементов
+     */
+    public synchronized long getShedCount() {
+        return shedCount;
+    }
+
+    /**
+     * Возвращает общее количество вытесненных элементов.
+     *
+     * @return сумма {@link #getCollectedCount()} и {@link #getShedCount()}
+     */
+    public synchronized long getEvictionCount() {
+        return collectedCount + shedCount;
+    }
+
+    /**
+     * Возвращает оценку освобождённой памяти по размерам, вычисленным при добавлении элементов.
+     *
+     * @return оценка освобождённых байт
+     */
+    public synchronized long getReclaimedBytesEstimate() {
+        return reclaimedBytes;
+    }
+
+    /**
+     * Возвращает ленивый запрос по ещё не освобождённым элементам.
+     *
+     * @return запрос над элементами списка
+     */
+    @Override
+    public Query<T> query() {
+        return new Query<>(sink -> {
+            for (T element : this) {
+                if (!sink.accept(element)) {
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Возвращает строковое представление ещё не освобождённых элементов.
+     *
+     * @return строка с элементами списка
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (T element : this) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(element);
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Возвращает итератор по снимку ещё не освобождённых элементов.
+     * Снимок держит на элементы сильные ссылки, пока итератор используется.
+     *
+     * @return итератор для списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] alive;
+        int count = 0;
+        synchronized (this) {
+            alive = new Object[size];
+            for (int i = 0; i < size; i++) {
+                T element = referenceAt(i).get();
+                if (element != null) {
+                    alive[count++] = element;
+                }
+            }
+        }
+        int total = count;
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < total;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) alive[currentIndex++];
+            }
+        };
+    }
+}
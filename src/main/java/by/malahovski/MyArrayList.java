@@ -1,6 +1,7 @@
 package by.malahovski;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -27,6 +28,11 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
      */
     private int size;
 
+    /**
+     * Журнал изменений для репликации; null, пока режим журнала не включён.
+     */
+    private ChangeLog<T> changeLog;
+
     /**
      * Конструктор по умолчанию. Создаёт список с начальной ёмкостью.
      */
@@ -36,12 +42,72 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
     }
 
     /**
-     * Увеличивает ёмкость массива в 1,5 раза, если он заполнен
+     * Создаёт список поверх готового массива без копирования.
+     *
+     * @param elements массив, который станет хранилищем списка
+     * @param size     количество занятых ячеек в начале массива
+     */
+    private MyArrayList(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Создаёт список из перечисленных элементов.
+     * Ёмкость равна количеству элементов, поэтому массив не перевыделяется.
+     *
+     * @param elements элементы списка
+     * @param <T>      тип элементов
+     * @return новый список
+     */
+    @SafeVarargs
+    public static <T> MyArrayList<T> of(T... elements) {
+        return new MyArrayList<>(Arrays.copyOf(elements, elements.length, Object[].class), elements.length);
+    }
+
+    /**
+     * Создаёт список из элементов массива.
+     * Без копирования массив типа {@code Object[]} сам становится хранилищем списка
+     * до первого расширения: изменения списка видны в массиве и наоборот. Массив более
+     * узкого типа (например, {@code String[]}) копируется всегда, иначе запись в список
+     * элемента другого типа приводила бы к {@link ArrayStoreException}.
+     *
+     * @param array массив элементов
+     * @param copy  true, чтобы скопировать массив, false, чтобы использовать массив
+     *              {@code Object[]} напрямую
+     * @param <T>   тип элементов
+     * @return новый список
+     */
+    public static <T> MyArrayList<T> fromArray(T[] array, boolean copy) {
+        Object[] storage = copy || array.getClass() != Object[].class
+                ? Arrays.copyOf(array, array.length, Object[].class)
+                : array;
+        return new MyArrayList<>(storage, array.length);
+    }
+
+    /**
+     * Создаёт список из элементов коллекции за одно копирование.
+     *
+     * @param collection исходная коллекция
+     * @param <T>        тип элементов
+     * @return новый список
+     */
+    public static <T> MyArrayList<T> fromCollection(Collection<? extends T> collection) {
+        Object[] array = collection.toArray();
+        if (array.getClass() != Object[].class) {
+            array = Arrays.copyOf(array, array.length, Object[].class);
+        }
+        return new MyArrayList<>(array, array.length);
+    }
+
+    /**
+     * Увеличивает ёмкость массива в 1,5 раза, если он заполнен,
+     * но не меньше {@link #DEFAULT_CAPACITY} для маленьких массивов из фабричных методов.
      */
     private void ensureCapacity() {
         if (size >= elements.length) {
-            int newCapacity = elements.length + (elements.length >> 1);
-            elements = Arrays.copyOf(elements, newCapacity);
+            int newCapacity = Math.max(elements.length + (elements.length >> 1), DEFAULT_CAPACITY);
+            elements = Arrays.copyOf(elements, newCapacity, Object[].class);
         }
     }
 
@@ -66,6 +132,9 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
     public void add(T element) {
         ensureCapacity();
         elements[size++] = element;
+        if (changeLog != null) {
+            changeLog.record(ChangeLog.Operation.ADD, size - 1, element);
+        }
     }
 
     /**
@@ -84,6 +153,9 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
         System.arraycopy(elements, index, elements, index + 1, size - index);
         elements[index] = element;
         size++;
+        if (changeLog != null) {
+            changeLog.record(ChangeLog.Operation.INSERT, index, element);
+        }
     }
 
     /**
@@ -119,6 +191,9 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
         checkIndex(index);
         T oldElement = (T) elements[index];
         elements[index] = element;
+        if (changeLog != null) {
+            changeLog.record(ChangeLog.Operation.SET, index, element);
+        }
         return oldElement;
     }
 
@@ -141,6 +216,9 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
             System.arraycopy(elements, index + 1, elements, index, numMoved);
         }
         elements[--size] = null;
+        if (changeLog != null) {
+            changeLog.record(ChangeLog.Operation.REMOVE, index, null);
+        }
         return removedElement;
     }
 
@@ -161,6 +239,37 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
         return false;
     }
 
+    /**
+     * Включает режим журнала изменений: каждая операция add, set и remove
+     * записывается в кольцевой буфер указанной ёмкости.
+     * Если список уже не пуст, его содержимое считается операцией с номером 0,
+     * доступной только снимком: новая реплика, запросившая {@code since(0)},
+     * получает полный снимок, а не только последующие операции.
+     * Повторный вызов возвращает уже включённый журнал, сохраняя его ёмкость и нумерацию.
+     *
+     * @param capacity количество хранимых операций
+     * @return журнал изменений списка
+     * @throws IllegalArgumentException если ёмкость не положительна
+     */
+    public ChangeLog<T> enableChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ёмкость журнала должна быть положительной: " + capacity);
+        }
+        if (changeLog == null) {
+            changeLog = new ChangeLog<>(capacity, size == 0 ? 0L : 1L, () -> Arrays.copyOf(elements, size));
+        }
+        return changeLog;
+    }
+
+    /**
+     * Возвращает журнал изменений списка.
+     *
+     * @return журнал изменений или null, если режим журнала не включён
+     */
+    public ChangeLog<T> getChangeLog() {
+        return changeLog;
+    }
+
     /**
      * Возвращает подсписок из текущего списка.
      * Подсписок включает элементы с индекса fromIndex (включительно) до toIndex (исключительно).
@@ -183,6 +292,25 @@ public class MyArrayList<T> implements MyList<T>, Iterable<T> {
         return subList;
     }
 
+    /**
+     * Возвращает ленивый запрос, обходящий массив элементов за один проход.
+     *
+     * @return запрос над элементами списка
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Query<T> query() {
+        return new Query<>(sink -> {
+            Object[] data = elements;
+            int n = size;
+            for (int i = 0; i < n; i++) {
+                if (!sink.accept((T) data[i])) {
+                    return;
+                }
+            }
+        });
+    }
+
     /**
      * Возвращает текущий размер списка.
      *
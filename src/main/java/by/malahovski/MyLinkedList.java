@@ -35,6 +35,31 @@ public class MyLinkedList<T> implements MyList<T>, Iterable<T> {
         }
     }
 
+    /**
+     * Создаёт список из элементов массива, связывая узлы за один проход.
+     *
+     * @param array массив элементов
+     * @param <T>   тип элементов
+     * @return новый список
+     */
+    public static <T> MyLinkedList<T> fromArray(T[] array) {
+        MyLinkedList<T> list = new MyLinkedList<>();
+        Node<T> last = null;
+        for (T element : array) {
+            Node<T> node = new Node<>(element);
+            if (last == null) {
+                list.head = node;
+            } else {
+                last.next = node;
+                node.prev = last;
+            }
+            last = node;
+        }
+        list.tail = last;
+        list.size = array.length;
+        return list;
+    }
+
     /**
      * Добавляет элемент в конец списка.
      *
@@ -181,6 +206,22 @@ public class MyLinkedList<T> implements MyList<T>, Iterable<T> {
         return false;
     }
 
+    /**
+     * Возвращает ленивый запрос, проходящий по цепочке узлов за один проход.
+     *
+     * @return запрос над элементами списка
+     */
+    @Override
+    public Query<T> query() {
+        return new Query<>(sink -> {
+            for (Node<T> current = head; current != null; current = current.next) {
+                if (!sink.accept(current.data)) {
+                    return;
+                }
+            }
+        });
+    }
+
     /**
      * Возвращает размер списка.
      *
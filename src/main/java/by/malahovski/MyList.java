@@ -17,4 +17,22 @@ public interface MyList<T> {
     int size();
 
     boolean isEmpty();
+
+    /**
+     * Возвращает ленивый запрос над элементами списка.
+     * Реализация по умолчанию обходит список через {@link #get(int)};
+     * конкретные списки переопределяют её прямым обходом своего хранилища.
+     *
+     * @return запрос над элементами списка
+     */
+    default Query<T> query() {
+        return new Query<>(sink -> {
+            int n = size();
+            for (int i = 0; i < n; i++) {
+                if (!sink.accept(get(i))) {
+                    return;
+                }
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package by.malahovski;
+
+/**
+ * Вычислительные ядра для поиска и агрегации по массивам примитивов.
+ * Обрабатываются первые {@code size} элементов массива; для пустого диапазона
+ * {@code min} и {@code max} возвращают нейтральный элемент операции.
+ * <p>
+ * Реализация по умолчанию скалярная. При сборке с профилем {@code vector}
+ * дополнительно компилируется реализация на {@code jdk.incubator.vector},
+ * которую {@link #get()} выбирает, если модуль доступен во время выполнения.
+ * <p>
+ * Порядок сложения в {@link #sum(double[], int)} не определён: векторная реализация
+ * складывает элементы по дорожкам вектора, поэтому результат для дробных чисел
+ * может отличаться в последних разрядах между реализациями и ширинами вектора.
+ */
+public interface PrimitiveKernels {
+
+    /**
+     * Имя класса векторной реализации, собираемой профилем {@code vector}.
+     */
+    String VECTOR_IMPLEMENTATION = "by.malahovski.VectorKernels";
+
+    /**
+     * Возвращает индекс первого элемента, равного значению.
+     *
+     * @return индекс элемента или -1, если элемент не найден
+     */
+    int indexOf(long[] data, int size, long value);
+
+    /**
+     * Возвращает количество элементов, равных значению.
+     */
+    int count(long[] data, int size, long value);
+
+    /**
+     * Возвращает сумму элементов с переполнением по правилам {@code long}.
+     */
+    long sum(long[] data, int size);
+
+    /**
+     * Возвращает наименьший элемент.
+     *
+     * @return наименьший элемент или {@link Long#MAX_VALUE} для пустого диапазона
+     */
+    long min(long[] data, int size);
+
+    /**
+     * Возвращает наибольший элемент.
+     *
+     * @return наибольший элемент или {@link Long#MIN_VALUE} для пустого диапазона
+     */
+    long max(long[] data, int size);
+
+    /**
+     * Отмечает в битовой маске элементы из диапазона [from, to).
+     *
+     * @return маска, в которой бит {@code i} слова {@code i >> 6} установлен для подходящего элемента {@code i}
+     */
+    long[] filterBetween(long[] data, int size, long from, long to);
+
+    /**
+     * Возвращает сумму элементов. Порядок сложения не определён, поэтому из-за округления
+     * результат разных реализаций может отличаться в пределах относительной погрешности.
+     */
+    double sum(double[] data, int size);
+
+    /**
+     * Возвращает наименьший элемент.
+     *
+     * @return наименьший элемент или {@link Double#POSITIVE_INFINITY} для пустого диапазона
+     */
+    double min(double[] data, int size);
+
+    /**
+     * Возвращает наибольший элемент.
+     *
+     * @return наибольший элемент или {@link Double#NEGATIVE_INFINITY} для пустого диапазона
+     */
+    double max(double[] data, int size);
+
+    /**
+     * Отмечает в битовой маске элементы из диапазона [from, to).
+     *
+     * @return маска, в которой бит {@code i} слова {@code i >> 6} установлен для подходящего элемента {@code i}
+     */
+    long[] filterBetween(double[] data, int size, double from, double to);
+
+    /**
+     * Возвращает векторную реализацию, если она собрана и модуль {@code jdk.incubator.vector}
+     * доступен, иначе скалярную.
+     *
+     * @return реализация ядер
+     */
+    static PrimitiveKernels get() {
+        return KernelsHolder.INSTANCE;
+    }
+}
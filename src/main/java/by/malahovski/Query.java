@@ -0,0 +1,205 @@
+package by.malahovski;
+
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ленивый запрос к {@link MyList}. Промежуточные операции только описывают конвейер,
+ * а терминальная операция проходит по элементам списка один раз, передавая каждый
+ * элемент через все стадии сразу. Промежуточные списки не создаются, а {@link #limit(long)}
+ * и операции поиска прекращают обход, как только результат известен.
+ *
+ * @param <T> тип элементов на выходе конвейера
+ */
+public final class Query<T> {
+
+    /**
+     * Источник элементов: передаёт элементы приёмнику, пока тот не попросит остановиться.
+     *
+     * @param <T> тип элементов
+     */
+    @FunctionalInterface
+    interface Source<T> {
+        void drive(Sink<? super T> sink);
+    }
+
+    /**
+     * Приёмник элементов.
+     *
+     * @param <T> тип элементов
+     */
+    @FunctionalInterface
+    interface Sink<T> {
+        /**
+         * Принимает элемент.
+         *
+         * @return false, если обход нужно прекратить
+         */
+        boolean accept(T element);
+    }
+
+    private final Source<T> source;
+
+    Query(Source<T> source) {
+        this.source = source;
+    }
+
+    /**
+     * Оставляет только элементы, удовлетворяющие условию.
+     *
+     * @param predicate условие отбора
+     * @return новый запрос
+     */
+    public Query<T> filter(Predicate<? super T> predicate) {
+        return new Query<>(sink -> source.drive(element -> !predicate.test(element) || sink.accept(element)));
+    }
+
+    /**
+     * Преобразует каждый элемент.
+     *
+     * @param mapper функция преобразования
+     * @param <R>    тип результата преобразования
+     * @return новый запрос
+     */
+    public <R> Query<R> map(Function<? super T, ? extends R> mapper) {
+        return new Query<>(sink -> source.drive(element -> sink.accept(mapper.apply(element))));
+    }
+
+    /**
+     * Преобразует каждый элемент в примитив {@code long} без упаковки.
+     *
+     * @param mapper функция преобразования
+     * @return запрос над значениями {@code long}
+     */
+    public LongQuery mapToLong(ToLongFunction<? super T> mapper) {
+        return new LongQuery(sink -> source.drive(element -> sink.accept(mapper.applyAsLong(element))));
+    }
+
+    /**
+     * Ограничивает количество элементов. Обход прекращается после последнего нужного элемента.
+     *
+     * @param maxSize максимальное количество элементов
+     * @return новый запрос
+     * @throws IllegalArgumentException если maxSize отрицателен
+     */
+    public Query<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize: " + maxSize);
+        }
+        return new Query<>(sink -> {
+            if (maxSize == 0) {
+                return;
+            }
+            long[] remaining = {maxSize};
+            source.drive(element -> sink.accept(element) && --remaining[0] > 0);
+        });
+    }
+
+    /**
+     * Пропускает первые элементы.
+     *
+     * @param n количество пропускаемых элементов
+     * @return новый запрос
+     * @throws IllegalArgumentException если n отрицательно
+     */
+    public Query<T> skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n: " + n);
+        }
+        return new Query<>(sink -> {
+            long[] skipped = {0L};
+            source.drive(element -> skipped[0]++ < n || sink.accept(element));
+        });
+    }
+
+    /**
+     * Собирает элементы в контейнер.
+     * Например, {@code collect(MyArrayList::new, MyArrayList::add)}.
+     *
+     * @param factory     создаёт пустой контейнер
+     * @param accumulator добавляет элемент в контейнер
+     * @param <C>         тип контейнера
+     * @return заполненный контейнер
+     */
+    public <C> C collect(Supplier<C> factory, BiConsumer<C, ? super T> accumulator) {
+        C container = factory.get();
+        source.drive(element -> {
+            accumulator.accept(container, element);
+            return true;
+        });
+        return container;
+    }
+
+    /**
+     * Собирает элементы в новый {@link MyArrayList}.
+     *
+     * @return список с результатом запроса
+     */
+    public MyArrayList<T> toList() {
+        return collect(MyArrayList::new, MyArrayList::add);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента.
+     *
+     * @param action действие
+     */
+    public void forEach(Consumer<? super T> action) {
+        source.drive(element -> {
+            action.accept(element);
+            return true;
+        });
+    }
+
+    /**
+     * Возвращает количество элементов.
+     *
+     * @return количество элементов
+     */
+    public long count() {
+        long[] count = {0L};
+        source.drive(element -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Проверяет, удовлетворяет ли условию хотя бы один элемент. Обход прекращается на первом совпадении.
+     *
+     * @param predicate условие
+     * @return true, если найден подходящий элемент
+     */
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        boolean[] found = {false};
+        source.drive(element -> !(found[0] = predicate.test(element)));
+        return found[0];
+    }
+
+    /**
+     * Возвращает первый элемент. Обход прекращается сразу после него.
+     *
+     * @return первый элемент
+     * @throws NoSuchElementException если элементов нет
+     */
+    @SuppressWarnings("unchecked")
+    public T first() {
+        Object[] result = new Object[1];
+        boolean[] found = {false};
+        source.drive(element -> {
+            result[0] = element;
+            found[0] = true;
+            return false;
+        });
+        if (!found[0]) {
+            throw new NoSuchElementException();
+        }
+        return (T) result[0];
+    }
+}
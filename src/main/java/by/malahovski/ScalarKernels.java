@@ -0,0 +1,109 @@
+package by.malahovski;
+
+/**
+ * Скалярная реализация {@link PrimitiveKernels}, используемая, когда Vector API недоступен.
+ */
+class ScalarKernels implements PrimitiveKernels {
+
+    @Override
+    public String toString() {
+        return "ScalarKernels";
+    }
+
+    @Override
+    public int indexOf(long[] data, int size, long value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] data, int size, long value) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long sum(long[] data, int size) {
+        long sum = 0L;
+        for (int i = 0; i < size; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long min(long[] data, int size) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] data, int size) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long[] filterBetween(long[] data, int size, long from, long to) {
+        long[] bitmap = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            if (data[i] >= from && data[i] < to) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public double sum(double[] data, int size) {
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] data, int size) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] data, int size) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long[] filterBetween(double[] data, int size, double from, double to) {
+        long[] bitmap = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            if (data[i] >= from && data[i] < to) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+}
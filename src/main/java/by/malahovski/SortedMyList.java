@@ -0,0 +1,592 @@
+package by.malahovski;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Отсортированный список на основе B+-дерева, наследующий интерфейс {@link MyList}.
+ * Элементы хранятся в порядке компаратора: листья содержат массивы элементов
+ * и связаны между собой, поэтому обход диапазона не требует копирования.
+ * Внутренние узлы хранят размеры поддеревьев, что даёт доступ по индексу за O(log n).
+ *
+ * @param <T> тип элементов списка
+ */
+public class SortedMyList<T> implements MyList<T>, Iterable<T> {
+
+    /**
+     * Максимальное количество элементов в листе и потомков во внутреннем узле.
+     */
+    private static final int NODE_CAPACITY = 64;
+
+    /**
+     * Минимальная заполненность узла, ниже которой он сливается с соседом или занимает у него.
+     */
+    private static final int MIN_FILL = NODE_CAPACITY / 2;
+
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Самый левый лист. Слияние всегда поглощает правый узел левым, поэтому он не меняется.
+     */
+    private final Leaf head;
+
+    private Node root;
+
+    /**
+     * Разделитель, поднимаемый в родителя при расщеплении узла.
+     */
+    private Object promoted;
+
+    /**
+     * Внутренний класс, представляющий узел дерева.
+     */
+    private abstract static class Node {
+        /**
+         * Количество элементов в поддереве.
+         */
+        int size;
+    }
+
+    /**
+     * Лист дерева: хранит элементы и ссылку на следующий лист.
+     */
+    private static final class Leaf extends Node {
+        final Object[] keys = new Object[NODE_CAPACITY + 1];
+        Leaf next;
+    }
+
+    /**
+     * Внутренний узел: все элементы {@code children[i]} не больше {@code separators[i]},
+     * а все элементы {@code children[i + 1]} не меньше его.
+     */
+    private static final class Inner extends Node {
+        final Object[] separators = new Object[NODE_CAPACITY];
+        final Node[] children = new Node[NODE_CAPACITY + 1];
+        int childCount;
+    }
+
+    /**
+     * Создаёт список, упорядоченный по естественному порядку элементов.
+     * Элементы должны реализовывать {@link Comparable}.
+     */
+    @SuppressWarnings("unchecked")
+    public SortedMyList() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Создаёт список, упорядоченный заданным компаратором.
+     *
+     * @param comparator компаратор, задающий порядок элементов
+     * @throws NullPointerException если компаратор равен null
+     */
+    public SortedMyList(Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+        head = new Leaf();
+        root = head;
+    }
+
+    /**
+     * Добавляет элемент в позицию, соответствующую порядку компаратора.
+     * Равные элементы добавляются после уже имеющихся.
+     *
+     * @param element элемент для добавления
+     */
+    @Override
+    public void add(T element) {
+        Node sibling = insert(root, element);
+        if (sibling != null) {
+            Inner newRoot = new Inner();
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.separators[0] = promoted;
+            newRoot.childCount = 2;
+            newRoot.size = root.size + sibling.size;
+            root = newRoot;
+        }
+        promoted = null;
+    }
+
+    /**
+     * Вставка по индексу не поддерживается: позицию элемента определяет компаратор.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("Позиция элемента в отсортированном списке задаётся компаратором");
+    }
+
+    /**
+     * Возвращает элемент по индексу в порядке сортировки.
+     *
+     * @param index индекс элемента
+     * @return элемент на заданной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за границы
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int i = 0;
+            while (index >= inner.children[i].size) {
+                index -= inner.children[i].size;
+                i++;
+            }
+            node = inner.children[i];
+        }
+        return (T) ((Leaf) node).keys[index];
+    }
+
+    /**
+     * Замена по индексу не поддерживается: она может нарушить порядок элементов.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("Замена элемента может нарушить порядок сортировки");
+    }
+
+    /**
+     * Удаляет элемент по индексу в порядке сортировки.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удалённый элемент
+     * @throws IndexOutOfBoundsException если индекс выходит за границы
+     */
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+        T removed = removeAt(root, index);
+        if (root instanceof Inner && ((Inner) root).childCount == 1) {
+            root = ((Inner) root).children[0];
+        }
+        return removed;
+    }
+
+    /**
+     * Удаляет первый элемент, равный указанному с точки зрения компаратора.
+     *
+     * @param element элемент для удаления
+     * @return {@code true}, если элемент был найден и удалён, иначе {@code false}
+     */
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Возвращает индекс первого элемента, равного указанному с точки зрения компаратора.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1, если элемент не найден
+     */
+    public int indexOf(T element) {
+        int rank = 0;
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int i = lowerBound(inner.separators, inner.childCount - 1, element);
+            for (int j = 0; j < i; j++) {
+                rank += inner.children[j].size;
+            }
+            node = inner.children[i];
+        }
+        Leaf leaf = (Leaf) node;
+        int pos = lowerBound(leaf.keys, leaf.size, element);
+        if (pos == leaf.size) {
+            leaf = leaf.next;
+            pos = 0;
+        }
+        if (leaf == null || compare(leaf.keys[pos], element) != 0) {
+            return -1;
+        }
+        return rank + (leaf == node ? pos : ((Leaf) node).size);
+    }
+
+    /**
+     * Проверяет, содержится ли в списке элемент, равный указанному.
+     *
+     * @param element искомый элемент
+     * @return {@code true}, если элемент найден, иначе {@code false}
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает представление элементов из диапазона [fromElement, toElement).
+     * Элементы не копируются: итератор проходит по связанным листьям дерева.
+     *
+     * @param fromElement нижняя граница (включительно)
+     * @param toElement   верхняя граница (исключительно)
+     * @return элементы из указанного диапазона в порядке сортировки
+     * @throws IllegalArgumentException если fromElement больше toElement
+     */
+    public Iterable<T> range(T fromElement, T toElement) {
+        if (compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("Некорректный диапазон: fromElement больше toElement");
+        }
+        return () -> {
+            Node node = root;
+            while (node instanceof Inner) {
+                Inner inner = (Inner) node;
+                node = inner.children[lowerBound(inner.separators, inner.childCount - 1, fromElement)];
+            }
+            Leaf leaf = (Leaf) node;
+            return new SortedMyListIterator(leaf, lowerBound(leaf.keys, leaf.size, fromElement), toElement, true);
+        };
+    }
+
+    /**
+     * Возвращает ленивый запрос, проходящий по связанным листьям в порядке сортировки.
+     *
+     * @return запрос над элементами списка
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Query<T> query() {
+        return new Query<>(sink -> {
+            for (Leaf leaf = head; leaf != null; leaf = leaf.next) {
+                for (int i = 0; i < leaf.size; i++) {
+                    if (!sink.accept((T) leaf.keys[i])) {
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Возвращает текущий размер списка.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * Проверяет, пуст ли список.
+     *
+     * @return {@code true}, если список пуст, иначе {@code false}
+     */
+    @Override
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    /**
+     * Возвращает строковое представление списка.
+     *
+     * @return строка с элементами списка в порядке сортировки
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (Leaf leaf = head; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(leaf.keys[i]);
+            }
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Возвращает итератор, обходящий элементы в порядке сортировки.
+     *
+     * @return итератор для списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SortedMyListIterator(head, 0, null, false);
+    }
+
+    /**
+     * Итератор по связанным листьям, при необходимости ограниченный верхней границей.
+     */
+    private class SortedMyListIterator implements Iterator<T> {
+        private Leaf leaf;
+        private int pos;
+        private final T toElement;
+        private final boolean bounded;
+
+        SortedMyListIterator(Leaf leaf, int pos, T toElement, boolean bounded) {
+            this.leaf = leaf;
+            this.pos = pos;
+            this.toElement = toElement;
+            this.bounded = bounded;
+            skipExhaustedLeaves();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (!bounded || compare(leaf.keys[pos], toElement) < 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = (T) leaf.keys[pos++];
+            skipExhaustedLeaves();
+            return element;
+        }
+
+        private void skipExhaustedLeaves() {
+            while (leaf != null && pos >= leaf.size) {
+                leaf = leaf.next;
+                pos = 0;
+            }
+        }
+    }
+
+    /**
+     * Рекурсивно вставляет элемент в поддерево.
+     *
+     * @param node    корень поддерева
+     * @param element элемент для вставки
+     * @return новый правый сосед, если узел был расщеплён, иначе null
+     */
+    private Node insert(Node node, T element) {
+        node.size++;
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int pos = upperBound(leaf.keys, leaf.size - 1, element);
+            System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.size - 1 - pos);
+            leaf.keys[pos] = element;
+            return leaf.size > NODE_CAPACITY ? splitLeaf(leaf) : null;
+        }
+        Inner inner = (Inner) node;
+        int i = upperBound(inner.separators, inner.childCount - 1, element);
+        Node sibling = insert(inner.children[i], element);
+        if (sibling == null) {
+            return null;
+        }
+        int tail = inner.childCount - 1 - i;
+        System.arraycopy(inner.separators, i, inner.separators, i + 1, tail);
+        System.arraycopy(inner.children, i + 1, inner.children, i + 2, tail);
+        inner.separators[i] = promoted;
+        inner.children[i + 1] = sibling;
+        inner.childCount++;
+        return inner.childCount > NODE_CAPACITY ? splitInner(inner) : null;
+    }
+
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf();
+        int half = leaf.size / 2;
+        right.size = leaf.size - half;
+        System.arraycopy(leaf.keys, half, right.keys, 0, right.size);
+        Arrays.fill(leaf.keys, half, leaf.size, null);
+        leaf.size = half;
+        right.next = leaf.next;
+        leaf.next = right;
+        promoted = right.keys[0];
+        return right;
+    }
+
+    private Inner splitInner(Inner inner) {
+        Inner right = new Inner();
+        int half = inner.childCount / 2;
+        right.childCount = inner.childCount - half;
+        System.arraycopy(inner.children, half, right.children, 0, right.childCount);
+        System.arraycopy(inner.separators, half, right.separators, 0, right.childCount - 1);
+        promoted = inner.separators[half - 1];
+        Arrays.fill(inner.children, half, inner.childCount, null);
+        Arrays.fill(inner.separators, half - 1, inner.childCount - 1, null);
+        inner.childCount = half;
+        for (int i = 0; i < right.childCount; i++) {
+            right.size += right.children[i].size;
+        }
+        inner.size -= right.size;
+        return right;
+    }
+
+    /**
+     * Рекурсивно удаляет элемент по индексу внутри поддерева,
+     * восстанавливая заполненность дочерних узлов.
+     */
+    @SuppressWarnings("unchecked")
+    private T removeAt(Node node, int index) {
+        node.size--;
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            T removed = (T) leaf.keys[index];
+            System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.size - index);
+            leaf.keys[leaf.size] = null;
+            return removed;
+        }
+        Inner inner = (Inner) node;
+        int i = 0;
+        while (index >= inner.children[i].size) {
+            index -= inner.children[i].size;
+            i++;
+        }
+        T removed = removeAt(inner.children[i], index);
+        if (width(inner.children[i]) < MIN_FILL && inner.childCount > 1) {
+            rebalance(inner, i + 1 < inner.childCount ? i : i - 1);
+        }
+        return removed;
+    }
+
+    /**
+     * Сливает или перераспределяет соседние узлы {@code children[left]} и {@code children[left + 1]}.
+     */
+    private void rebalance(Inner parent, int left) {
+        Node a = parent.children[left];
+        Node b = parent.children[left + 1];
+        if (width(a) + width(b) <= NODE_CAPACITY) {
+            merge(parent, left, a, b);
+        } else if (width(a) < width(b)) {
+            borrowFromRight(parent, left, a, b);
+        } else {
+            borrowFromLeft(parent, left, a, b);
+        }
+    }
+
+    private void merge(Inner parent, int left, Node a, Node b) {
+        if (a instanceof Leaf) {
+            Leaf la = (Leaf) a;
+            Leaf lb = (Leaf) b;
+            System.arraycopy(lb.keys, 0, la.keys, la.size, lb.size);
+            la.next = lb.next;
+        } else {
+            Inner ia = (Inner) a;
+            Inner ib = (Inner) b;
+            ia.separators[ia.childCount - 1] = parent.separators[left];
+            System.arraycopy(ib.separators, 0, ia.separators, ia.childCount, ib.childCount - 1);
+            System.arraycopy(ib.children, 0, ia.children, ia.childCount, ib.childCount);
+            ia.childCount += ib.childCount;
+        }
+        a.size += b.size;
+        int tail = parent.childCount - 2 - left;
+        System.arraycopy(parent.separators, left + 1, parent.separators, left, tail);
+        System.arraycopy(parent.children, left + 2, parent.children, left + 1, tail);
+        parent.childCount--;
+        parent.separators[parent.childCount - 1] = null;
+        parent.children[parent.childCount] = null;
+    }
+
+    private void borrowFromRight(Inner parent, int left, Node a, Node b) {
+        if (a instanceof Leaf) {
+            Leaf la = (Leaf) a;
+            Leaf lb = (Leaf) b;
+            la.keys[la.size] = lb.keys[0];
+            System.arraycopy(lb.keys, 1, lb.keys, 0, lb.size - 1);
+            lb.keys[lb.size - 1] = null;
+            la.size++;
+            lb.size--;
+            parent.separators[left] = lb.keys[0];
+            return;
+        }
+        Inner ia = (Inner) a;
+        Inner ib = (Inner) b;
+        Node moved = ib.children[0];
+        ia.separators[ia.childCount - 1] = parent.separators[left];
+        ia.children[ia.childCount++] = moved;
+        parent.separators[left] = ib.separators[0];
+        System.arraycopy(ib.separators, 1, ib.separators, 0, ib.childCount - 2);
+        System.arraycopy(ib.children, 1, ib.children, 0, ib.childCount - 1);
+        ib.childCount--;
+        ib.separators[ib.childCount - 1] = null;
+        ib.children[ib.childCount] = null;
+        ia.size += moved.size;
+        ib.size -= moved.size;
+    }
+
+    private void borrowFromLeft(Inner parent, int left, Node a, Node b) {
+        if (a instanceof Leaf) {
+            Leaf la = (Leaf) a;
+            Leaf lb = (Leaf) b;
+            System.arraycopy(lb.keys, 0, lb.keys, 1, lb.size);
+            lb.keys[0] = la.keys[--la.size];
+            la.keys[la.size] = null;
+            lb.size++;
+            parent.separators[left] = lb.keys[0];
+            return;
+        }
+        Inner ia = (Inner) a;
+        Inner ib = (Inner) b;
+        Node moved = ia.children[ia.childCount - 1];
+        System.arraycopy(ib.separators, 0, ib.separators, 1, ib.childCount - 1);
+        System.arraycopy(ib.children, 0, ib.children, 1, ib.childCount);
+        ib.separators[0] = parent.separators[left];
+        ib.children[0] = moved;
+        ib.childCount++;
+        parent.separators[left] = ia.separators[ia.childCount - 2];
+        ia.separators[ia.childCount - 2] = null;
+        ia.children[--ia.childCount] = null;
+        ia.size -= moved.size;
+        ib.size += moved.size;
+    }
+
+    /**
+     * Возвращает заполненность узла: число элементов листа или число потомков внутреннего узла.
+     */
+    private static int width(Node node) {
+        return node instanceof Leaf ? node.size : ((Inner) node).childCount;
+    }
+
+    /**
+     * Возвращает индекс первого ключа, не меньшего указанного элемента.
+     */
+    private int lowerBound(Object[] keys, int count, T element) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает индекс первого ключа, строго большего указанного элемента.
+     */
+    private int upperBound(Object[] keys, int count, T element) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator.compare((T) a, (T) b);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= root.size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package by.malahovski;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация {@link PrimitiveKernels} на {@code jdk.incubator.vector}.
+ * Собирается только профилем {@code vector}. Ширину вектора можно зафиксировать
+ * системным свойством {@value #WIDTH_PROPERTY} (64, 128, 256 или 512 бит),
+ * иначе используется предпочтительная для процессора. Хвост массива короче
+ * одного вектора обрабатывается скалярно.
+ * <p>
+ * Виды векторов хранятся в статических финальных полях: JIT превращает операции
+ * Vector API в машинные инструкции, только если вид вектора — константа. С видом
+ * в поле экземпляра каждый шаг создаёт объекты, и код оказывается медленнее скалярного.
+ * Поэтому ширина выбирается один раз на JVM.
+ */
+class VectorKernels implements PrimitiveKernels {
+
+    static final String WIDTH_PROPERTY = "by.malahovski.vector.bits";
+
+    private static final VectorShape SHAPE = shape();
+    private static final VectorSpecies<Long> LONG_SPECIES = VectorSpecies.of(long.class, SHAPE);
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = VectorSpecies.of(double.class, SHAPE);
+
+    private static VectorShape shape() {
+        String bits = System.getProperty(WIDTH_PROPERTY);
+        return bits == null ? VectorShape.preferredShape() : VectorShape.forBitSize(Integer.parseInt(bits));
+    }
+
+    @Override
+    public String toString() {
+        return "VectorKernels[" + LONG_SPECIES.vectorBitSize() + " бит]";
+    }
+
+    @Override
+    public int indexOf(long[] data, int size, long value) {
+        int bound = LONG_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            VectorMask<Long> mask = LongVector.fromArray(LONG_SPECIES, data, i).eq(value);
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] data, int size, long value) {
+        int bound = LONG_SPECIES.loopBound(size);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            count += LongVector.fromArray(LONG_SPECIES, data, i).eq(value).trueCount();
+        }
+        for (; i < size; i++) {
+            if (data[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long sum(long[] data, int size) {
+        int bound = LONG_SPECIES.loopBound(size);
+        LongVector acc = LongVector.zero(LONG_SPECIES);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            acc = acc.add(LongVector.fromArray(LONG_SPECIES, data, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long min(long[] data, int size) {
+        int bound = LONG_SPECIES.loopBound(size);
+        LongVector acc = LongVector.broadcast(LONG_SPECIES, Long.MAX_VALUE);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            acc = acc.min(LongVector.fromArray(LONG_SPECIES, data, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] data, int size) {
+        int bound = LONG_SPECIES.loopBound(size);
+        LongVector acc = LongVector.broadcast(LONG_SPECIES, Long.MIN_VALUE);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            acc = acc.max(LongVector.fromArray(LONG_SPECIES, data, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Длина вектора — степень двойки не больше 64, поэтому маска одного шага
+     * всегда помещается в одно слово битовой маски.
+     */
+    @Override
+    public long[] filterBetween(long[] data, int size, long from, long to) {
+        long[] bitmap = new long[(size + 63) >>> 6];
+        int bound = LONG_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            LongVector v = LongVector.fromArray(LONG_SPECIES, data, i);
+            VectorMask<Long> mask = v.compare(VectorOperators.GE, from).and(v.compare(VectorOperators.LT, to));
+            bitmap[i >>> 6] |= mask.toLong() << i;
+        }
+        for (; i < size; i++) {
+            if (data[i] >= from && data[i] < to) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public double sum(double[] data, int size) {
+        int bound = DOUBLE_SPECIES.loopBound(size);
+        DoubleVector acc = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLE_SPECIES, data, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] data, int size) {
+        int bound = DOUBLE_SPECIES.loopBound(size);
+        DoubleVector acc = DoubleVector.broadcast(DOUBLE_SPECIES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLE_SPECIES, data, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] data, int size) {
+        int bound = DOUBLE_SPECIES.loopBound(size);
+        DoubleVector acc = DoubleVector.broadcast(DOUBLE_SPECIES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLE_SPECIES, data, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long[] filterBetween(double[] data, int size, double from, double to) {
+        long[] bitmap = new long[(size + 63) >>> 6];
+        int bound = DOUBLE_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLE_SPECIES, data, i);
+            VectorMask<Double> mask = v.compare(VectorOperators.GE, from).and(v.compare(VectorOperators.LT, to));
+            bitmap[i >>> 6] |= mask.toLong() << i;
+        }
+        for (; i < size; i++) {
+            if (data[i] >= from && data[i] < to) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,65 @@
+package by.malahovski;
+
+import java.util.Locale;
+
+/**
+ * Простые замеры времени для классов {@code *Benchmark}. Такие классы не попадают
+ * в обычный прогон тестов и запускаются явно, например
+ * {@code mvn test -Dtest=SortedMyListBenchmark}.
+ */
+final class BenchmarkSupport {
+
+    private static final int WARMUP_BATCHES = 5;
+    private static final int MEASURED_BATCHES = 10;
+
+    /**
+     * Накопитель результатов, чтобы JIT не удалил измеряемые вызовы.
+     */
+    static volatile long blackhole;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Пакет операций. Возвращает измеренное им самим время в наносекундах
+     * или 0, если нужно мерить пакет целиком (например, когда подготовка входит в пакет).
+     */
+    @FunctionalInterface
+    interface Batch {
+        long run();
+    }
+
+    /**
+     * Выполняет пакет несколько раз после прогрева и возвращает лучшее время одной операции.
+     *
+     * @param operations количество операций в пакете
+     * @param batch      пакет операций
+     * @return время одной операции в наносекундах
+     */
+    static double bestNanosPerOperation(int operations, Batch batch) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < WARMUP_BATCHES + MEASURED_BATCHES; i++) {
+            long start = System.nanoTime();
+            long measured = batch.run();
+            long elapsed = measured > 0 ? measured : System.nanoTime() - start;
+            if (i >= WARMUP_BATCHES) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return (double) best / operations;
+    }
+
+    /**
+     * Печатает строку результата: название замера и время одной операции.
+     */
+    static void report(String name, double nanosPerOperation) {
+        System.out.println(String.format(Locale.ROOT, "%-60s %12.1f нс/оп", name, nanosPerOperation));
+    }
+
+    /**
+     * Печатает строку с отношением времени базового варианта к времени сравниваемого.
+     */
+    static void reportSpeedup(String name, double baselineNanos, double candidateNanos) {
+        System.out.println(String.format(Locale.ROOT, "%-60s %12.1fx", name, baselineNanos / candidateNanos));
+    }
+}
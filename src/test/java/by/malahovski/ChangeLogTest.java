@@ -0,0 +1,171 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogTest {
+
+    private static final ChangeLog.ElementCodec<String> STRINGS = new ChangeLog.ElementCodec<String>() {
+        @Override
+        public void write(DataOutput out, String element) throws IOException {
+            out.writeUTF(element);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    private MyArrayList<String> list;
+    private ChangeLog<String> changeLog;
+
+    @BeforeEach
+    void setUp() {
+        list = new MyArrayList<>();
+        changeLog = list.enableChangeLog(8);
+    }
+
+    @Test
+    void testOperationsAreRecorded() {
+        list.add("A");
+        list.add("C");
+        list.add(1, "B");
+        list.set(2, "D");
+        list.remove("A");
+
+        assertEquals(5, changeLog.nextSequence(), "Каждая операция должна получать номер");
+        ChangeLog.Delta<String> delta = changeLog.since(0);
+        assertFalse(delta.isSnapshot(), "Все операции ещё в буфере, снимок не нужен");
+        assertEquals(5, delta.size(), "Пакет должен содержать пять операций");
+    }
+
+    @Test
+    void testReplicasFollowChanges() throws IOException {
+        MyArrayList<String> fast = new MyArrayList<>();
+        MyArrayList<String> remote = new MyArrayList<>();
+        MyLinkedList<String> slow = new MyLinkedList<>();
+        long fastSequence = 0;
+        long remoteSequence = 0;
+        long slowSequence = 0;
+
+        for (int i = 0; i < 20; i++) {
+            list.add("E" + i);
+            if (i % 4 == 0) {
+                list.set(list.size() - 1, "S" + i);
+            }
+            if (i % 3 == 0) {
+                list.remove(0);
+            }
+            ChangeLog.Delta<String> delta = changeLog.since(fastSequence);
+            assertFalse(delta.isSnapshot(), "Реплика, опрашивающая журнал часто, получает только изменения");
+            delta.applyTo(fast);
+            fastSequence = delta.nextSequence();
+
+            if (i % 2 == 1) {
+                ChangeLog.Delta<String> received = transfer(changeLog.since(remoteSequence));
+                assertFalse(received.isSnapshot(), "Реплика, опрашивающая журнал через раз, получает только изменения");
+                received.applyTo(remote);
+                remoteSequence = received.nextSequence();
+            }
+        }
+
+        ChangeLog.Delta<String> delta = changeLog.since(slowSequence);
+        assertTrue(delta.isSnapshot(), "Отставшая реплика должна получить полный снимок");
+        delta.applyTo(slow);
+        slowSequence = delta.nextSequence();
+
+        assertEquals(list.toString(), fast.toString(), "Реплика должна совпадать с исходным списком");
+        assertEquals(list.toString(), remote.toString(), "Реплика из закодированных пакетов должна совпадать с исходным списком");
+        assertEquals(list.toString(), slow.toString(), "Реплика должна совпадать с исходным списком");
+        assertEquals(changeLog.nextSequence(), slowSequence, "После снимка реплика должна быть актуальна");
+
+        list.add(0, "X");
+        changeLog.since(slowSequence).applyTo(slow);
+        assertEquals(list.toString(), slow.toString(), "После снимка реплика продолжает получать изменения");
+    }
+
+    @Test
+    void testSnapshotSurvivesEncoding() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            list.add("E" + i);
+        }
+        ChangeLog.Delta<String> received = transfer(changeLog.since(0));
+        assertTrue(received.isSnapshot(), "Снимок должен остаться снимком после передачи");
+        MyLinkedList<String> replica = new MyLinkedList<>();
+        received.applyTo(replica);
+        assertEquals(list.toString(), replica.toString(), "Реплика из закодированного снимка должна совпадать с исходным списком");
+        assertEquals(changeLog.nextSequence(), received.nextSequence(), "Номер следующей операции должен передаваться");
+    }
+
+    /**
+     * Передаёт пакет через байты так же, как реплике в другом процессе.
+     */
+    private static ChangeLog.Delta<String> transfer(ChangeLog.Delta<String> delta) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            delta.writeTo(out, STRINGS);
+        }
+        return ChangeLog.Delta.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), STRINGS);
+    }
+
+    @Test
+    void testSnapshotReplacesReplicaContents() {
+        MyArrayList<String> replica = new MyArrayList<>();
+        replica.add("stale");
+        for (int i = 0; i < 10; i++) {
+            list.add("E" + i);
+        }
+        changeLog.since(0).applyTo(replica);
+        assertEquals(list.toString(), replica.toString(), "Снимок должен полностью заменять содержимое реплики");
+    }
+
+    @Test
+    void testReplicaBootstrapsFromPrefilledList() {
+        MyArrayList<String> source = new MyArrayList<>();
+        source.add("x");
+        source.add("y");
+        ChangeLog<String> log = source.enableChangeLog(8);
+        source.add("z");
+
+        MyArrayList<String> replica = new MyArrayList<>();
+        ChangeLog.Delta<String> delta = log.since(0);
+        assertTrue(delta.isSnapshot(), "Содержимое до включения журнала доступно только снимком");
+        delta.applyTo(replica);
+        assertEquals("[x, y, z]", replica.toString(), "Новая реплика должна получить все элементы");
+
+        source.set(0, "w");
+        log.since(delta.nextSequence()).applyTo(replica);
+        assertEquals(source.toString(), replica.toString(), "После снимка реплика получает изменения");
+    }
+
+    @Test
+    void testRepeatedEnableKeepsLog() {
+        list.add("A");
+        list.add("B");
+        assertSame(changeLog, list.enableChangeLog(16), "Повторный вызов должен вернуть тот же журнал");
+        assertEquals(2, changeLog.nextSequence(), "Нумерация операций не должна сбрасываться");
+    }
+
+    @Test
+    void testInvalidSequence() {
+        list.add("A");
+        assertThrows(IllegalArgumentException.class, () -> changeLog.since(2), "Ожидается исключение для номера из будущего");
+        assertThrows(IllegalArgumentException.class, () -> list.enableChangeLog(0), "Ожидается исключение для нулевой ёмкости");
+    }
+
+    @Test
+    void testChangeLogIsOptIn() {
+        assertNull(new MyArrayList<String>().getChangeLog(), "По умолчанию журнал изменений выключен");
+    }
+}
@@ -0,0 +1,108 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static by.malahovski.BenchmarkSupport.bestNanosPerOperation;
+import static by.malahovski.BenchmarkSupport.report;
+import static by.malahovski.BenchmarkSupport.reportSpeedup;
+
+/**
+ * Сравнение агрегатов по одной колонке {@link ColumnarList} с обходом записей-объектов
+ * в {@link MyArrayList}. Объекты проверяются в порядке создания и в перемешанном порядке,
+ * который моделирует записи, разбросанные по куче.
+ * Запуск: {@code mvn test -Dtest=ColumnarListBenchmark}.
+ */
+class ColumnarListBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int ID = 0;
+    private static final int TIMESTAMP = 1;
+    private static final int VALUE = 2;
+
+    /**
+     * Запись из трёх полей, хранимая объектом.
+     */
+    private static final class Record {
+        final int id;
+        final long timestamp;
+        final double value;
+
+        Record(int id, long timestamp, double value) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+    }
+
+    @Test
+    void singleColumnAggregates() {
+        Random random = new Random(27);
+        ColumnarList columns = new ColumnarList(ColumnarList.ColumnType.INT, ColumnarList.ColumnType.LONG,
+                ColumnarList.ColumnType.DOUBLE);
+        ColumnarList.Row row = columns.cursor();
+        Record[] records = new Record[ROWS];
+        MyArrayList<Record> ordered = new MyArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            long timestamp = random.nextInt(1_000_000);
+            double value = random.nextDouble();
+            row.at(columns.addRow()).setInt(ID, i).setLong(TIMESTAMP, timestamp).setDouble(VALUE, value);
+            records[i] = new Record(i, timestamp, value);
+            ordered.add(records[i]);
+        }
+        for (int i = ROWS - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Record swap = records[i];
+            records[i] = records[j];
+            records[j] = swap;
+        }
+        MyArrayList<Record> shuffled = MyArrayList.fromArray(records, false);
+
+        double columnarLong = bestNanosPerOperation(ROWS, () -> {
+            BenchmarkSupport.blackhole += columns.sumLong(TIMESTAMP);
+            return 0L;
+        });
+        double orderedLong = bestNanosPerOperation(ROWS, () -> {
+            BenchmarkSupport.blackhole += sumTimestamps(ordered);
+            return 0L;
+        });
+        double shuffledLong = bestNanosPerOperation(ROWS, () -> {
+            BenchmarkSupport.blackhole += sumTimestamps(shuffled);
+            return 0L;
+        });
+        double columnarDouble = bestNanosPerOperation(ROWS, () -> {
+            BenchmarkSupport.blackhole += (long) columns.sumDouble(VALUE);
+            return 0L;
+        });
+        double orderedDouble = bestNanosPerOperation(ROWS, () -> {
+            BenchmarkSupport.blackhole += (long) sumValues(ordered);
+            return 0L;
+        });
+
+        report("sumLong: ColumnarList", columnarLong);
+        report("sumLong: MyArrayList<Record>, порядок создания", orderedLong);
+        report("sumLong: MyArrayList<Record>, перемешанные", shuffledLong);
+        reportSpeedup("Ускорение sumLong (порядок создания)", orderedLong, columnarLong);
+        reportSpeedup("Ускорение sumLong (перемешанные)", shuffledLong, columnarLong);
+        report("sumDouble: ColumnarList", columnarDouble);
+        report("sumDouble: MyArrayList<Record>, порядок создания", orderedDouble);
+        reportSpeedup("Ускорение sumDouble (порядок создания)", orderedDouble, columnarDouble);
+    }
+
+    private static long sumTimestamps(MyArrayList<Record> records) {
+        long sum = 0;
+        for (int i = 0, n = records.size(); i < n; i++) {
+            sum += records.get(i).timestamp;
+        }
+        return sum;
+    }
+
+    private static double sumValues(MyArrayList<Record> records) {
+        double sum = 0;
+        for (int i = 0, n = records.size(); i < n; i++) {
+            sum += records.get(i).value;
+        }
+        return sum;
+    }
+}
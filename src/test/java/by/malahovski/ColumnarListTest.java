@@ -0,0 +1,113 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static by.malahovski.ColumnarList.ColumnType.DOUBLE;
+import static by.malahovski.ColumnarList.ColumnType.INT;
+import static by.malahovski.ColumnarList.ColumnType.LONG;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarListTest {
+
+    private static final int ID = 0;
+    private static final int TIMESTAMP = 1;
+    private static final int VALUE = 2;
+
+    private ColumnarList list;
+    private ColumnarList.Row row;
+
+    @BeforeEach
+    void setUp() {
+        list = new ColumnarList(INT, LONG, DOUBLE);
+        row = list.cursor();
+    }
+
+    private void addRecord(int id, long timestamp, double value) {
+        row.at(list.addRow())
+                .setInt(ID, id)
+                .setLong(TIMESTAMP, timestamp)
+                .setDouble(VALUE, value);
+    }
+
+    @Test
+    void testAddRowBeyondInitialCapacity() {
+        for (int i = 0; i < 25; i++) {
+            addRecord(i, 1000L + i, i * 0.5);
+        }
+        assertEquals(25, list.size(), "Размер списка должен быть 25");
+        assertEquals(24, list.getInt(24, ID), "Колонки должны расти вместе");
+        assertEquals(1024L, list.getLong(24, TIMESTAMP), "Колонки должны расти вместе");
+        assertEquals(12.0, list.getDouble(24, VALUE), "Колонки должны расти вместе");
+    }
+
+    @Test
+    void testColumnAggregates() {
+        addRecord(1, 10L, 1.5);
+        addRecord(2, 20L, 2.5);
+        addRecord(3, 30L, 3.0);
+        assertEquals(6L, list.sumInt(ID), "Сумма колонки int должна быть 6");
+        assertEquals(60L, list.sumLong(TIMESTAMP), "Сумма колонки long должна быть 60");
+        assertEquals(7.0, list.sumDouble(VALUE), "Сумма колонки double должна быть 7.0");
+    }
+
+    @Test
+    void testFilter() {
+        addRecord(1, 10L, 1.5);
+        addRecord(2, 20L, 2.5);
+        addRecord(3, 30L, 3.0);
+        assertArrayEquals(new int[]{1, 2}, list.filterLong(TIMESTAMP, t -> t >= 20L), "Должны отбираться строки 1 и 2");
+        assertArrayEquals(new int[]{0}, list.filterDouble(VALUE, v -> v < 2.0), "Должна отбираться строка 0");
+        assertArrayEquals(new int[0], list.filterInt(ID, id -> id > 3), "Подходящих строк быть не должно");
+    }
+
+    @Test
+    void testSearchAndMinMax() {
+        addRecord(1, 30L, 1.5);
+        addRecord(2, 10L, 4.5);
+        addRecord(3, 30L, -2.0);
+        assertEquals(0, list.indexOfLong(TIMESTAMP, 30L), "indexOfLong должен возвращать первое совпадение");
+        assertEquals(2, list.countLong(TIMESTAMP, 30L), "Значение 30 встречается дважды");
+        assertEquals(10L, list.minLong(TIMESTAMP), "Минимум колонки long должен быть 10");
+        assertEquals(30L, list.maxLong(TIMESTAMP), "Максимум колонки long должен быть 30");
+        assertEquals(-2.0, list.minDouble(VALUE), "Минимум колонки double должен быть -2.0");
+        assertEquals(4.5, list.maxDouble(VALUE), "Максимум колонки double должен быть 4.5");
+        assertArrayEquals(new long[]{0b101L}, list.filterLongBetween(TIMESTAMP, 20L, 40L), "Должны отмечаться строки 0 и 2");
+        assertArrayEquals(new long[]{0b011L}, list.filterDoubleBetween(VALUE, 0.0, 5.0), "Должны отмечаться строки 0 и 1");
+    }
+
+    @Test
+    void testMinOfEmptyList() {
+        assertThrows(java.util.NoSuchElementException.class, () -> list.minLong(TIMESTAMP), "Ожидается исключение для пустого списка");
+    }
+
+    @Test
+    void testRemoveRow() {
+        addRecord(1, 10L, 1.5);
+        addRecord(2, 20L, 2.5);
+        addRecord(3, 30L, 3.0);
+        list.removeRow(1);
+        assertEquals(2, list.size(), "Размер списка должен быть 2");
+        assertEquals(3, row.at(1).getInt(ID), "Строки должны сдвигаться во всех колонках");
+        assertEquals(30L, list.getLong(1, TIMESTAMP), "Строки должны сдвигаться во всех колонках");
+    }
+
+    @Test
+    void testCursorIsReused() {
+        addRecord(1, 10L, 1.5);
+        addRecord(2, 20L, 2.5);
+        assertSame(row, row.at(0), "Курсор должен переиспользоваться при перемещении");
+        assertEquals(1, row.getInt(ID), "Курсор должен читать строку 0");
+        assertEquals(1, row.at(1).index(), "Курсор должен перемещаться на строку 1");
+        assertEquals(20L, row.getLong(TIMESTAMP), "Курсор должен читать строку 1");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.cursor().getInt(ID), "Неустановленный курсор не читает данные");
+    }
+
+    @Test
+    void testInvalidAccess() {
+        addRecord(1, 10L, 1.5);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(1, ID), "Ожидается исключение для строки 1");
+        assertThrows(IllegalArgumentException.class, () -> list.getLong(0, ID), "Ожидается исключение при несовпадении типа колонки");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.sumLong(5), "Ожидается исключение для колонки 5");
+    }
+}
@@ -0,0 +1,167 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.Notification;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySensitiveListTest {
+
+    @Test
+    void testBasicOperations() {
+        try (MemorySensitiveList<String> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT)) {
+            list.add("A");
+            list.add("C");
+            list.add(1, "B");
+            assertEquals("[A, B, C]", list.toString(), "Элементы должны храниться в порядке добавления");
+            assertEquals("B", list.set(1, "D"), "set должен возвращать старое значение");
+            assertTrue(list.remove("A"), "Элемент 'A' должен быть удалён");
+            assertEquals("C", list.remove(1), "remove по индексу должен вернуть удалённый элемент");
+            assertEquals(1, list.size(), "Размер списка должен быть 1");
+            assertThrows(NullPointerException.class, () -> list.add(null), "null-элементы не поддерживаются");
+        }
+    }
+
+    @Test
+    void testShedRemovesOldestAndReportsEstimates() {
+        try (MemorySensitiveList<String> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT, s -> 100L)) {
+            for (int i = 0; i < 10; i++) {
+                list.add("E" + i);
+            }
+            assertEquals(3, list.shed(0.25), "Должно сбрасываться ceil(10 * 0.25) = 3 элемента");
+            assertEquals("E3", list.get(0), "Сбрасываются самые старые элементы");
+            assertEquals(7, list.size(), "Размер списка должен быть 7");
+            assertEquals(3, list.getShedCount(), "Счётчик сброшенных элементов должен быть 3");
+            assertEquals(3, list.getEvictionCount(), "Общий счётчик вытеснений должен быть 3");
+            assertEquals(300L, list.getReclaimedBytesEstimate(), "Оценка освобождённой памяти должна быть 300 байт");
+            assertThrows(IllegalArgumentException.class, () -> list.shed(1.5), "Ожидается исключение для доли больше 1");
+        }
+    }
+
+    @Test
+    void testCompactRemovesCollectedElements() throws InterruptedException {
+        try (MemorySensitiveList<Object> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.WEAK, o -> 16L)) {
+            Object kept = new Object();
+            list.add(kept);
+            for (int i = 0; i < 100; i++) {
+                list.add(new Object());
+            }
+            for (int attempt = 0; attempt < 20 && list.get(1) != null; attempt++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertEquals(100, list.compact(), "Уплотнение должно удалить все освобождённые элементы");
+            assertEquals(1, list.size(), "Должен остаться только элемент с сильной ссылкой");
+            assertSame(kept, list.get(0), "Оставшийся элемент должен быть исходным объектом");
+            assertEquals(100, list.getCollectedCount(), "Счётчик освобождённых сборщиком элементов должен быть 100");
+            assertEquals(1600L, list.getReclaimedBytesEstimate(), "Оценка освобождённой памяти должна быть 1600 байт");
+        }
+    }
+
+    @Test
+    void testWatchMemoryPressureValidatesArguments() {
+        try (MemorySensitiveList<String> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT)) {
+            assertThrows(IllegalArgumentException.class, () -> list.watchMemoryPressure(0.0, 0.5), "Ожидается исключение для нулевого порога");
+            assertThrows(IllegalArgumentException.class, () -> list.watchMemoryPressure(0.9, 2.0), "Ожидается исключение для доли больше 1");
+        }
+    }
+
+    @Test
+    void testBackgroundCompactionRemovesCollectedElements() throws InterruptedException {
+        try (MemorySensitiveList<Object> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.WEAK)) {
+            Object kept = new Object();
+            list.add(kept);
+            for (int i = 0; i < 100; i++) {
+                list.add(new Object());
+            }
+            list.startBackgroundCompaction();
+            for (int attempt = 0; attempt < 200 && list.size() > 1; attempt++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertEquals(1, list.size(), "Фоновый поток должен удалить освобождённые элементы без вызова compact()");
+            assertSame(kept, list.get(0), "Оставшийся элемент должен быть исходным объектом");
+            assertEquals(100, list.getCollectedCount(), "Счётчик освобождённых сборщиком элементов должен быть 100");
+        }
+    }
+
+    @Test
+    void testThresholdNotificationShedsOldest() {
+        try (MemorySensitiveList<String> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT)) {
+            for (int i = 0; i < 10; i++) {
+                list.add("E" + i);
+            }
+            Notification exceeded = new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, "test", 1L);
+            list.onMemoryNotification(exceeded);
+            assertEquals(10, list.size(), "Без подписки уведомление не должно сбрасывать элементы");
+
+            list.watchMemoryPressure(0.99, 0.5);
+            list.onMemoryNotification(new Notification(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED, "test", 2L));
+            assertEquals(10, list.size(), "Уведомления другого типа не должны сбрасывать элементы");
+            list.onMemoryNotification(exceeded);
+            assertEquals(5, list.size(), "Превышение порога должно сбросить половину элементов");
+            assertEquals("E5", list.get(0), "Сбрасываются самые старые элементы");
+            assertEquals(5, list.getShedCount(), "Счётчик сброшенных элементов должен быть 5");
+        }
+    }
+
+    @Test
+    void testCloseRestoresUsageThresholds() {
+        List<MemoryPoolMXBean> pools = heapPools();
+        long[] before = thresholds(pools);
+        MemorySensitiveList<String> list = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT);
+        list.watchMemoryPressure(0.99, 0.5);
+        assertThresholds(pools, 0.99, "Порог пула должен быть установлен");
+        list.close();
+        assertArrayEquals(before, thresholds(pools), "close() должен восстановить прежние пороги пулов кучи");
+    }
+
+    @Test
+    void testOverlappingWatchersShareThreshold() {
+        List<MemoryPoolMXBean> pools = heapPools();
+        long[] before = thresholds(pools);
+        MemorySensitiveList<String> first = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT);
+        MemorySensitiveList<String> second = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT);
+        MemorySensitiveList<String> third = new MemorySensitiveList<>(MemorySensitiveList.Strength.SOFT);
+        first.watchMemoryPressure(0.9, 0.5);
+        second.watchMemoryPressure(0.8, 0.5);
+        third.watchMemoryPressure(0.8, 0.5);
+        assertThresholds(pools, 0.8, "Действует наименьший порог среди подписанных списков");
+
+        second.close();
+        assertThresholds(pools, 0.8, "Пока подписан список с тем же порогом, порог не меняется");
+        third.add("A");
+        third.onMemoryNotification(new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, "test", 1L));
+        assertEquals(0, third.size(), "Оставшийся подписчик должен получать уведомления");
+
+        third.close();
+        assertThresholds(pools, 0.9, "После отписки порог поднимается до наименьшего из оставшихся");
+        first.close();
+        assertArrayEquals(before, thresholds(pools), "После отписки последнего списка прежние пороги восстанавливаются");
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                        && pool.getUsage().getMax() > 0)
+                .collect(Collectors.toList());
+    }
+
+    private static long[] thresholds(List<MemoryPoolMXBean> pools) {
+        return pools.stream().mapToLong(MemoryPoolMXBean::getUsageThreshold).toArray();
+    }
+
+    private static void assertThresholds(List<MemoryPoolMXBean> pools, double usageThreshold, String message) {
+        for (MemoryPoolMXBean pool : pools) {
+            assertEquals((long) (pool.getUsage().getMax() * usageThreshold), pool.getUsageThreshold(),
+                    message + ": " + pool.getName());
+        }
+    }
+}
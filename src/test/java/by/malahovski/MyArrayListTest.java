@@ -3,6 +3,8 @@ package by.malahovski;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -139,4 +141,61 @@ class MyArrayListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1), "Ожидается исключение для индекса -1");
         assertThrows(IndexOutOfBoundsException.class, () -> list.get(2), "Ожидается исключение для индекса 2");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testOf() {
+        MyArrayList<String> list = MyArrayList.of("A", "B", "C");
+
+        assertEquals(3, list.size(), "Размер списка должен быть 3");
+        assertEquals("[A, B, C]", list.toString(), "Элементы должны идти в порядке перечисления");
+        list.add("D");
+        assertEquals("D", list.get(3), "Список должен расширяться после фабричного метода");
+    }
+
+    @Test
+    void testFromArrayWithoutCopySharesStorage() {
+        Object[] array = {"A", "B"};
+        MyArrayList<Object> list = MyArrayList.fromArray(array, false);
+
+        list.set(0, "X");
+        assertEquals("X", array[0], "Без копирования изменения списка видны в массиве");
+    }
+
+    @Test
+    void testFromCovariantArrayIsCopied() {
+        String[] array = {"A"};
+        MyArrayList<Object> list = MyArrayList.fromArray(array, false);
+
+        assertDoesNotThrow(() -> list.set(0, 1), "Запись элемента другого типа не должна зависеть от типа исходного массива");
+        assertEquals("A", array[0], "Массив узкого типа копируется и не изменяется списком");
+        assertEquals(1, list.get(0), "Новое значение должно быть 1");
+    }
+
+    @Test
+    void testFromArrayWithCopy() {
+        String[] array = {"A", "B"};
+        MyArrayList<String> list = MyArrayList.fromArray(array, true);
+
+        list.set(0, "X");
+        assertEquals("A", array[0], "Копия не должна изменять исходный массив");
+        assertEquals("X", list.get(0), "Новое значение должно быть 'X'");
+    }
+
+    @Test
+    void testFromEmptyArrayGrows() {
+        MyArrayList<String> list = MyArrayList.fromArray(new String[0], false);
+        list.add("A");
+        list.add("B");
+
+        assertEquals(2, list.size(), "Пустой массив должен расширяться при добавлении");
+        assertEquals("B", list.get(1), "Второй элемент должен быть 'B'");
+    }
+
+    @Test
+    void testFromCollection() {
+        MyArrayList<String> list = MyArrayList.fromCollection(Arrays.asList("A", "B", "C"));
+        list.add(0, "Z");
+
+        assertEquals("[Z, A, B, C]", list.toString(), "Элементы коллекции должны сохранять порядок");
+    }
+}
@@ -128,4 +128,20 @@ class MyLinkedListTest {
         list.add("B");
         assertEquals("[A, B]", list.toString(), "Метод toString должен корректно отображать элементы списка");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFromArray() {
+        MyLinkedList<String> linked = MyLinkedList.fromArray(new String[]{"A", "B", "C"});
+        assertEquals("[A, B, C]", linked.toString(), "Элементы должны связываться в порядке массива");
+        assertEquals("C", linked.get(2), "Последний элемент должен быть 'C'");
+        assertEquals("C", linked.remove(2), "Хвост списка должен быть установлен");
+        linked.add("D");
+        assertEquals("[A, B, D]", linked.toString(), "Список должен оставаться связным после фабричного метода");
+    }
+
+    @Test
+    void testFromEmptyArray() {
+        MyLinkedList<String> linked = MyLinkedList.fromArray(new String[0]);
+        assertTrue(linked.isEmpty(), "Список из пустого массива должен быть пустым");
+    }
+}
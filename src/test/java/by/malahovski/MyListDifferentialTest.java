@@ -0,0 +1,152 @@
+package by.malahovski;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Дифференциальные тесты: длинные случайные последовательности операций выполняются
+ * над каждой реализацией {@link MyList} и над {@link ArrayList}, результаты сравниваются.
+ */
+class MyListDifferentialTest {
+
+    private static final int OPERATIONS = 20000;
+    private static final int VALUE_RANGE = 500;
+    private static final long[] SEEDS = {1L, 42L, 2024L};
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("by.malahovski.MyListImplementations#positional")
+    void testRandomOperationsMatchArrayList(String name, Supplier<MyList<Integer>> factory) {
+        for (long seed : SEEDS) {
+            MyList<Integer> list = factory.get();
+            List<Integer> expected = contentsOf(list);
+            Random random = new Random(seed);
+            for (int step = 0; step < OPERATIONS; step++) {
+                String context = name + ", seed " + seed + ", шаг " + step;
+                Integer value = random.nextInt(VALUE_RANGE);
+                int size = expected.size();
+                switch (random.nextInt(7)) {
+                    case 0:
+                    case 1:
+                        list.add(value);
+                        expected.add(value);
+                        break;
+                    case 2:
+                        int insertAt = random.nextInt(size + 1);
+                        list.add(insertAt, value);
+                        expected.add(insertAt, value);
+                        break;
+                    case 3:
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            assertEquals(expected.set(index, value), list.set(index, value), context);
+                        }
+                        break;
+                    case 4:
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            assertEquals(expected.remove(index), list.remove(index), context);
+                        }
+                        break;
+                    case 5:
+                        assertEquals(expected.remove(value), list.remove(value), context);
+                        break;
+                    default:
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            assertEquals(expected.get(index), list.get(index), context);
+                        }
+                        break;
+                }
+                assertEquals(expected.size(), list.size(), context);
+                assertEquals(expected.isEmpty(), list.isEmpty(), context);
+            }
+            assertContentsEqual(expected, list, name + ", seed " + seed);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("by.malahovski.MyListImplementations#positional")
+    void testOutOfBoundsMatchesArrayList(String name, Supplier<MyList<Integer>> factory) {
+        MyList<Integer> list = factory.get();
+        list.add(1);
+        int size = list.size();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(size), name);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1), name);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(size, 2), name);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(size), name);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(size + 1, 2), name);
+    }
+
+    @ParameterizedTest(name = "seed {0}")
+    @MethodSource("seeds")
+    void testSortedListMatchesSortedArrayList(long seed) {
+        SortedMyList<Integer> list = new SortedMyList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(seed);
+        for (int step = 0; step < OPERATIONS; step++) {
+            String context = "SortedMyList, seed " + seed + ", шаг " + step;
+            Integer value = random.nextInt(VALUE_RANGE);
+            int size = expected.size();
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    list.add(value);
+                    int position = Collections.binarySearch(expected, value);
+                    expected.add(position < 0 ? -position - 1 : position, value);
+                    break;
+                case 2:
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(expected.remove(index), list.remove(index), context);
+                    }
+                    break;
+                case 3:
+                    assertEquals(expected.remove(value), list.remove(value), context);
+                    break;
+                default:
+                    assertEquals(expected.indexOf(value), list.indexOf(value), context);
+                    break;
+            }
+            assertEquals(expected.size(), list.size(), context);
+        }
+        assertContentsEqual(expected, list, "SortedMyList, seed " + seed);
+    }
+
+    static long[] seeds() {
+        return SEEDS;
+    }
+
+    private static void assertContentsEqual(List<Integer> expected, MyList<Integer> list, String context) {
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i), context + ", индекс " + i);
+        }
+        assertEquals(expected, toJavaList(list.query().toList()), context + ", query().toList()");
+    }
+
+    /**
+     * Копирует начальное содержимое списка в эталон: некоторые реализации создаются непустыми.
+     */
+    private static List<Integer> contentsOf(MyList<Integer> list) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            result.add(list.get(i));
+        }
+        return result;
+    }
+
+    private static List<Integer> toJavaList(MyArrayList<Integer> list) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer element : list) {
+            result.add(element);
+        }
+        return result;
+    }
+}
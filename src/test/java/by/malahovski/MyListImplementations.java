@@ -0,0 +1,59 @@
+package by.malahovski;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Перечень реализаций {@link MyList} для общих параметризованных тестов.
+ */
+final class MyListImplementations {
+
+    /**
+     * Количество элементов, с которыми создаётся список поверх готового массива.
+     */
+    private static final int ADOPTED_SIZE = 16;
+
+    private MyListImplementations() {
+    }
+
+    /**
+     * Реализации, поддерживающие позиционные операции add(int, T) и set.
+     * {@link MemorySensitiveList} проверяется со слабыми ссылками: эталонный список
+     * держит сильные ссылки на те же элементы, поэтому они не освобождаются.
+     */
+    static Stream<Arguments> positional() {
+        return Stream.of(
+                named("MyArrayList", MyArrayList::new),
+                named("MyArrayList.fromArray", MyListImplementations::adopted),
+                named("MyLinkedList", MyLinkedList::new),
+                named("MemorySensitiveList", () -> new MemorySensitiveList<>(MemorySensitiveList.Strength.WEAK))
+        );
+    }
+
+    /**
+     * Все реализации, включая отсортированный {@link SortedMyList}.
+     */
+    static Stream<Arguments> all() {
+        return Stream.concat(positional(), Stream.of(named("SortedMyList", SortedMyList::new)));
+    }
+
+    /**
+     * Список поверх уже заполненного массива {@code Object[]}: первые операции работают
+     * с принятым без копирования хранилищем, а первое расширение заменяет его новым массивом.
+     * Тесты, начинающие с пустого списка, должны учитывать начальное содержимое.
+     */
+    @SuppressWarnings("unchecked")
+    private static MyList<Integer> adopted() {
+        Object[] storage = new Object[ADOPTED_SIZE];
+        for (int i = 0; i < storage.length; i++) {
+            storage[i] = i * 7 % ADOPTED_SIZE;
+        }
+        return (MyList<Integer>) (MyList<?>) MyArrayList.fromArray(storage, false);
+    }
+
+    private static Arguments named(String name, Supplier<MyList<Integer>> factory) {
+        return Arguments.of(name, factory);
+    }
+}
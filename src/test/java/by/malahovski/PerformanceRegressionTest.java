@@ -0,0 +1,176 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Контроль регрессий производительности: упрощённые замеры времени одной операции
+ * get, add и remove для каждой реализации {@link MyList} сравниваются с эталоном
+ * из {@code performance-baseline.properties}. Тест падает, если операция стала медленнее
+ * эталона больше чем в {@code perf.threshold} раз (по умолчанию 3). Превышение перепроверяется
+ * повторными замерами, чтобы единичная пауза сборщика мусора не роняла сборку.
+ * <p>
+ * Замеры пишутся в {@code target/performance-current.properties}, откуда их можно перенести в эталон.
+ * Отключается свойством {@code -Dperf.skip=true}.
+ */
+class PerformanceRegressionTest {
+
+    private static final String BASELINE = "performance-baseline.properties";
+    private static final Path CURRENT = Paths.get("target", "performance-current.properties");
+
+    private static final int LIST_SIZE = 1000;
+    private static final int OPERATIONS = 10000;
+    private static final int ATTEMPTS = 3;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final Properties baseline = new Properties();
+    private static final Properties current = new Properties();
+    private static double threshold;
+
+    @BeforeAll
+    static void loadBaseline() throws IOException {
+        assumeFalse(Boolean.getBoolean("perf.skip"), "Контроль производительности отключён");
+        threshold = Double.parseDouble(System.getProperty("perf.threshold", "3.0"));
+        try (InputStream in = PerformanceRegressionTest.class.getResourceAsStream(BASELINE)) {
+            assertNotNull(in, "Не найден эталон " + BASELINE);
+            baseline.load(in);
+        }
+        warmUpAllImplementations();
+    }
+
+    /**
+     * Прогревает замеры на всех реализациях до первого сравнения с эталоном.
+     * Циклы замеров общие для всех реализаций, и без этого JIT компилирует их под те
+     * реализации, которые успели встретиться к моменту компиляции: время одной и той же
+     * операции от прогона к прогону скачет в несколько раз в зависимости от порядка.
+     */
+    @SuppressWarnings("unchecked")
+    private static void warmUpAllImplementations() {
+        List<Supplier<MyList<Integer>>> factories = MyListImplementations.all()
+                .map(arguments -> (Supplier<MyList<Integer>>) arguments.get()[1])
+                .collect(Collectors.toList());
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (Supplier<MyList<Integer>> factory : factories) {
+                measureGet(factory);
+                measureAdd(factory);
+                measureRemove(factory);
+            }
+        }
+    }
+
+    @AfterAll
+    static void saveCurrent() throws IOException {
+        if (current.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(CURRENT.getParent());
+        try (OutputStream out = Files.newOutputStream(CURRENT)) {
+            current.store(out, "Время одной операции, нс");
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("by.malahovski.MyListImplementations#all")
+    void testOperationsDoNotRegress(String name, Supplier<MyList<Integer>> factory) {
+        List<String> regressions = new ArrayList<>();
+        check(name + ".get", () -> measureGet(factory), regressions);
+        check(name + ".add", () -> measureAdd(factory), regressions);
+        check(name + ".remove", () -> measureRemove(factory), regressions);
+        assertTrue(regressions.isEmpty(), "Регрессия производительности: " + regressions);
+    }
+
+    private static void check(String key, DoubleSupplier measurement, List<String> regressions) {
+        String expected = baseline.getProperty(key);
+        double limit = expected == null ? Double.MAX_VALUE : Double.parseDouble(expected) * threshold;
+        double nanosPerOperation = measurement.getAsDouble();
+        for (int attempt = 1; attempt < ATTEMPTS && nanosPerOperation > limit; attempt++) {
+            nanosPerOperation = Math.min(nanosPerOperation, measurement.getAsDouble());
+        }
+        current.setProperty(key, String.format(Locale.ROOT, "%.1f", nanosPerOperation));
+        if (expected == null) {
+            regressions.add(key + ": нет значения в эталоне");
+        } else if (nanosPerOperation > limit) {
+            regressions.add(String.format(Locale.ROOT, "%s: %.1f нс > %.1f нс", key, nanosPerOperation, limit));
+        }
+    }
+
+    private static double measureGet(Supplier<MyList<Integer>> factory) {
+        MyList<Integer> list = filled(factory, LIST_SIZE);
+        int[] indices = new Random(1).ints(OPERATIONS, 0, LIST_SIZE).toArray();
+        return BenchmarkSupport.bestNanosPerOperation(OPERATIONS, () -> {
+            long sum = 0;
+            for (int index : indices) {
+                sum += list.get(index);
+            }
+            BenchmarkSupport.blackhole += sum;
+            return 0L;
+        });
+    }
+
+    private static double measureAdd(Supplier<MyList<Integer>> factory) {
+        Integer[] values = randomValues();
+        return BenchmarkSupport.bestNanosPerOperation(OPERATIONS, () -> {
+            MyList<Integer> list = factory.get();
+            long start = System.nanoTime();
+            for (Integer value : values) {
+                list.add(value);
+            }
+            long elapsed = System.nanoTime() - start;
+            BenchmarkSupport.blackhole += list.size();
+            return elapsed;
+        });
+    }
+
+    private static double measureRemove(Supplier<MyList<Integer>> factory) {
+        Integer[] values = randomValues();
+        return BenchmarkSupport.bestNanosPerOperation(OPERATIONS, () -> {
+            MyList<Integer> list = factory.get();
+            for (Integer value : values) {
+                list.add(value);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < values.length; i++) {
+                BenchmarkSupport.blackhole += list.remove(list.size() - 1);
+            }
+            return System.nanoTime() - start;
+        });
+    }
+
+    private static MyList<Integer> filled(Supplier<MyList<Integer>> factory, int size) {
+        MyList<Integer> list = factory.get();
+        Random random = new Random(2);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt());
+        }
+        return list;
+    }
+
+    private static Integer[] randomValues() {
+        Random random = new Random(3);
+        Integer[] values = new Integer[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,65 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import static by.malahovski.BenchmarkSupport.bestNanosPerOperation;
+import static by.malahovski.BenchmarkSupport.report;
+import static by.malahovski.BenchmarkSupport.reportSpeedup;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Сравнение {@link ScalarKernels} с векторной реализацией. Ширина вектора
+ * фиксируется на всю JVM, поэтому каждая ширина замеряется отдельным запуском:
+ * {@code mvn -Pvector test -Dtest=PrimitiveKernelsBenchmark -Dby.malahovski.vector.bits=256}
+ * (64, 128, 256 или 512; без свойства — предпочтительная для процессора).
+ */
+class PrimitiveKernelsBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int REPEATS = 50;
+
+    @Test
+    void scalarVersusVector() {
+        PrimitiveKernels vector = PrimitiveKernels.get();
+        assumeTrue(vector.getClass().getName().equals(PrimitiveKernels.VECTOR_IMPLEMENTATION),
+                "Векторная реализация недоступна, запустите с профилем vector");
+        PrimitiveKernels scalar = new ScalarKernels();
+        Random random = new Random(28);
+        long[] longs = new long[SIZE];
+        double[] doubles = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            longs[i] = random.nextInt(1_000_000);
+            doubles[i] = random.nextDouble();
+        }
+
+        compare("sum(long[])", scalar, vector, kernels -> kernels.sum(longs, SIZE));
+        compare("count(long[])", scalar, vector, kernels -> kernels.count(longs, SIZE, 500_000L));
+        compare("filterBetween(long[])", scalar, vector,
+                kernels -> kernels.filterBetween(longs, SIZE, 250_000L, 750_000L)[0]);
+        compare("sum(double[])", scalar, vector, kernels -> (long) kernels.sum(doubles, SIZE));
+        compare("max(double[])", scalar, vector, kernels -> (long) (kernels.max(doubles, SIZE) * SIZE));
+        compare("filterBetween(double[])", scalar, vector,
+                kernels -> kernels.filterBetween(doubles, SIZE, 0.25, 0.75)[0]);
+    }
+
+    private static void compare(String operation, PrimitiveKernels scalar, PrimitiveKernels vector,
+                                ToLongFunction<PrimitiveKernels> kernel) {
+        double scalarNanos = measure(scalar, kernel);
+        double vectorNanos = measure(vector, kernel);
+        report(scalar + ": " + operation, scalarNanos);
+        report(vector + ": " + operation, vectorNanos);
+        reportSpeedup(vector + " / " + scalar + ": " + operation, scalarNanos, vectorNanos);
+    }
+
+    private static double measure(PrimitiveKernels kernels, ToLongFunction<PrimitiveKernels> kernel) {
+        return bestNanosPerOperation(SIZE * REPEATS, () -> {
+            for (int i = 0; i < REPEATS; i++) {
+                BenchmarkSupport.blackhole += kernel.applyAsLong(kernels);
+            }
+            return 0L;
+        });
+    }
+}
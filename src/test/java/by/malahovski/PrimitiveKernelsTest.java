@@ -0,0 +1,140 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Проверка реализаций {@link PrimitiveKernels} по эталону на потоках JDK.
+ * Профиль {@code vector} передаёт в свойстве {@value #EXPECTED_PROPERTY} имя ожидаемой
+ * реализации, поэтому незаметный откат на скалярную версию роняет тест. Ширина вектора
+ * фиксируется на всю JVM, поэтому профиль повторяет этот тест отдельными прогонами
+ * с {@value #WIDTH_PROPERTY} = 64, 128, 256 и 512.
+ */
+class PrimitiveKernelsTest {
+
+    private static final String EXPECTED_PROPERTY = "by.malahovski.kernels.expected";
+    private static final String WIDTH_PROPERTY = "by.malahovski.vector.bits";
+
+    /**
+     * Размеры вокруг длин векторов (1, 2, 4, 8 и 16 элементов) и хвостов за ними.
+     */
+    private static final int[] SIZES = {0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 63, 64, 65, 127, 1003};
+
+    private static String expectedImplementation() {
+        return System.getProperty(EXPECTED_PROPERTY, ScalarKernels.class.getName());
+    }
+
+    @Test
+    void testSelectedImplementation() {
+        assertEquals(expectedImplementation(), PrimitiveKernels.get().getClass().getName(),
+                "PrimitiveKernels.get() должен возвращать ожидаемую реализацию");
+    }
+
+    @Test
+    void testScalarKernelsMatchOracle() {
+        assertMatchesOracle(new ScalarKernels());
+    }
+
+    @Test
+    void testSelectedKernelsMatchOracle() {
+        assertMatchesOracle(PrimitiveKernels.get());
+    }
+
+    @Test
+    void testSelectedVectorWidth() {
+        String bits = System.getProperty(WIDTH_PROPERTY);
+        assumeTrue(bits != null, "Ширина вектора задаётся только прогонами kernels-* профиля vector");
+        assertEquals("VectorKernels[" + bits + " бит]", PrimitiveKernels.get().toString(),
+                "Векторная реализация должна использовать заданную ширину");
+    }
+
+    @Test
+    void testFilterBitmapLayout() {
+        long[] data = new long[70];
+        data[0] = 1L;
+        data[65] = 1L;
+        long[] bitmap = PrimitiveKernels.get().filterBetween(data, data.length, 1L, 2L);
+        assertEquals(2, bitmap.length, "Для 70 элементов нужно два слова маски");
+        assertEquals(1L, bitmap[0], "Бит 0 должен быть установлен");
+        assertEquals(2L, bitmap[1], "Бит 65 должен быть установлен во втором слове");
+    }
+
+    private static void assertMatchesOracle(PrimitiveKernels kernels) {
+        Random random = new Random(28);
+        for (int size : SIZES) {
+            String context = kernels + ", размер " + size;
+            long[] longs = new long[size + 3];
+            double[] doubles = new double[size + 3];
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = random.nextInt(100) - 50;
+                doubles[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(7) - 3);
+            }
+            long last = size > 0 ? longs[size - 1] : 0L;
+            long[] prefix = Arrays.copyOf(longs, size);
+
+            assertEquals(indexOf(prefix, last), kernels.indexOf(longs, size, last), context + ": indexOf");
+            assertEquals(-1, kernels.indexOf(longs, size, 1000L), context + ": indexOf отсутствующего");
+            assertEquals(LongStream.of(prefix).filter(v -> v == last).count(), kernels.count(longs, size, last), context + ": count");
+            assertEquals(LongStream.of(prefix).sum(), kernels.sum(longs, size), context + ": sum long");
+            assertEquals(LongStream.of(prefix).min().orElse(Long.MAX_VALUE), kernels.min(longs, size), context + ": min long");
+            assertEquals(LongStream.of(prefix).max().orElse(Long.MIN_VALUE), kernels.max(longs, size), context + ": max long");
+            assertArrayEquals(bitmap(size, i -> longs[i] >= -10 && longs[i] < 10),
+                    kernels.filterBetween(longs, size, -10L, 10L), context + ": filterBetween long");
+
+            double[] doublePrefix = Arrays.copyOf(doubles, size);
+            assertEquals(sequentialSum(doublePrefix), kernels.sum(doubles, size), sumTolerance(doublePrefix),
+                    context + ": sum double");
+            assertEquals(DoubleStream.of(doublePrefix).min().orElse(Double.POSITIVE_INFINITY), kernels.min(doubles, size), context + ": min double");
+            assertEquals(DoubleStream.of(doublePrefix).max().orElse(Double.NEGATIVE_INFINITY), kernels.max(doubles, size), context + ": max double");
+            assertArrayEquals(bitmap(size, i -> doubles[i] >= -0.2 && doubles[i] < 0.6),
+                    kernels.filterBetween(doubles, size, -0.2, 0.6), context + ": filterBetween double");
+        }
+    }
+
+    private static double sequentialSum(double[] data) {
+        double sum = 0.0;
+        for (double value : data) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Порядок сложения дробных чисел не определён, поэтому сумма сравнивается с погрешностью:
+     * оценка ошибки округления любого порядка сложения — {@code n * ulp(1) * sum|x|}.
+     */
+    private static double sumTolerance(double[] data) {
+        double absoluteSum = 0.0;
+        for (double value : data) {
+            absoluteSum += Math.abs(value);
+        }
+        return data.length * Math.ulp(1.0) * absoluteSum;
+    }
+
+    private static int indexOf(long[] data, long value) {
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] bitmap(int size, IntPredicate selected) {
+        long[] bitmap = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            if (selected.test(i)) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+}
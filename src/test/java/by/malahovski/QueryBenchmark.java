@@ -0,0 +1,97 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import static by.malahovski.BenchmarkSupport.bestNanosPerOperation;
+import static by.malahovski.BenchmarkSupport.report;
+import static by.malahovski.BenchmarkSupport.reportSpeedup;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Сравнение слитого ленивого запроса с цепочкой циклов, каждый из которых создаёт
+ * промежуточный {@link MyArrayList}, на 10 000 000 элементов: время одного элемента
+ * и память, выделенная потоком за один проход. Запрос должен выделять только результат.
+ * Запуск: {@code mvn test -Dtest=QueryBenchmark}.
+ */
+class QueryBenchmark {
+
+    private static final int SIZE = 10_000_000;
+
+    /**
+     * Допустимая память на один проход запроса: объекты стадий, но не элементы.
+     */
+    private static final long QUERY_ALLOCATION_LIMIT = 64 * 1024;
+
+    @Test
+    void fusedQueryVersusIntermediateLists() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Счётчик выделенной памяти потока недоступен");
+        Integer[] values = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i % 100;
+        }
+        MyArrayList<Integer> list = MyArrayList.fromArray(values, false);
+
+        double eager = bestNanosPerOperation(SIZE, () -> {
+            BenchmarkSupport.blackhole += eagerPipeline(list);
+            return 0L;
+        });
+        double fused = bestNanosPerOperation(SIZE, () -> {
+            BenchmarkSupport.blackhole += fusedPipeline(list);
+            return 0L;
+        });
+        long eagerBytes = allocatedBytes(() -> BenchmarkSupport.blackhole += eagerPipeline(list));
+        long fusedBytes = allocatedBytes(() -> BenchmarkSupport.blackhole += fusedPipeline(list));
+
+        report("Циклы с промежуточными MyArrayList", eager);
+        report("Слитый запрос query()", fused);
+        reportSpeedup("Циклы / запрос", eager, fused);
+        System.out.println(String.format(Locale.ROOT, "%-60s %12d байт", "Память за проход, циклы", eagerBytes));
+        System.out.println(String.format(Locale.ROOT, "%-60s %12d байт", "Память за проход, запрос", fusedBytes));
+        assertTrue(fusedBytes < QUERY_ALLOCATION_LIMIT,
+                "Запрос над " + SIZE + " элементами должен выделять только результат, выделено байт: " + fusedBytes);
+    }
+
+    private static long fusedPipeline(MyList<Integer> list) {
+        return list.query()
+                .filter(i -> i % 3 != 0)
+                .mapToLong(Integer::longValue)
+                .map(v -> v * 2)
+                .filter(v -> v > 10)
+                .sum();
+    }
+
+    private static long eagerPipeline(MyArrayList<Integer> list) {
+        MyArrayList<Integer> filtered = new MyArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            Integer value = list.get(i);
+            if (value % 3 != 0) {
+                filtered.add(value);
+            }
+        }
+        MyArrayList<Long> doubled = new MyArrayList<>();
+        for (int i = 0; i < filtered.size(); i++) {
+            doubled.add(filtered.get(i).longValue() * 2);
+        }
+        long sum = 0;
+        for (int i = 0; i < doubled.size(); i++) {
+            long value = doubled.get(i);
+            if (value > 10) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    private static long allocatedBytes(Runnable pass) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        pass.run();
+        return threads.getThreadAllocatedBytes(thread) - before;
+    }
+}
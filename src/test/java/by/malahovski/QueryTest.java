@@ -0,0 +1,136 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class QueryTest {
+
+    private static <L extends MyList<Integer>> L fill(L list, int n) {
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    void testFilterMapLimitOnArrayList() {
+        MyArrayList<Integer> list = fill(new MyArrayList<>(), 100);
+        MyArrayList<String> result = list.query()
+                .filter(i -> i % 2 == 0)
+                .map(i -> "N" + i)
+                .limit(3)
+                .toList();
+        assertEquals("[N0, N2, N4]", result.toString(), "Конвейер должен отбирать, преобразовывать и ограничивать элементы");
+    }
+
+    @Test
+    void testSameResultForAllLists() {
+        List<MyList<Integer>> lists = Arrays.asList(
+                fill(new MyArrayList<>(), 50),
+                fill(new MyLinkedList<>(), 50),
+                fill(new SortedMyList<>(), 50)
+        );
+        for (MyList<Integer> list : lists) {
+            assertEquals(5, list.query().filter(i -> i % 10 == 0).count(), "Должно отбираться пять элементов");
+            assertEquals(10, list.query().skip(10).first(), "После пропуска 10 элементов первым должен быть 10");
+        }
+    }
+
+    @Test
+    void testLimitShortCircuits() {
+        MyLinkedList<Integer> list = fill(new MyLinkedList<>(), 1000);
+        int[] mapped = {0};
+        list.query()
+                .map(i -> {
+                    mapped[0]++;
+                    return i;
+                })
+                .limit(5)
+                .forEach(i -> {
+                });
+        assertEquals(5, mapped[0], "После limit(5) обход должен прекращаться");
+        assertTrue(list.query().anyMatch(i -> i == 3), "anyMatch должен находить элемент");
+    }
+
+    @Test
+    void testStagesAreLazy() {
+        MyArrayList<Integer> list = fill(new MyArrayList<>(), 10);
+        int[] calls = {0};
+        Query<Integer> query = list.query().filter(i -> {
+            calls[0]++;
+            return true;
+        });
+        assertEquals(0, calls[0], "До терминальной операции стадии не выполняются");
+        list.add(10);
+        assertEquals(11, query.count(), "Запрос видит состояние списка на момент терминальной операции");
+    }
+
+    @Test
+    void testLongQuery() {
+        MyArrayList<Integer> list = fill(new MyArrayList<>(), 10);
+        assertEquals(45L, list.query().mapToLong(Integer::longValue).sum(), "Сумма 0..9 равна 45");
+        assertEquals(18L, list.query().mapToLong(i -> i).map(v -> v * 2).max(), "Максимум удвоенных значений равен 18");
+        assertEquals(3L, list.query().mapToLong(i -> i).filter(v -> v > 2).limit(2).min(), "Минимум после фильтра равен 3");
+        assertThrows(NoSuchElementException.class, () -> new MyArrayList<Integer>().query().mapToLong(i -> i).min(),
+                "Для пустого запроса ожидается исключение");
+    }
+
+    @Test
+    void testLongQuerySkipForEachAnyMatch() {
+        MyArrayList<Integer> list = fill(new MyArrayList<>(), 10);
+        long[] visited = {0L};
+        list.query().mapToLong(i -> i).skip(7).forEach(v -> visited[0] += v);
+        assertEquals(24L, visited[0], "После пропуска семи значений остаются 7, 8 и 9");
+        int[] mapped = {0};
+        assertTrue(list.query().mapToLong(i -> {
+            mapped[0]++;
+            return i;
+        }).anyMatch(v -> v == 2), "anyMatch должен находить значение");
+        assertEquals(3, mapped[0], "anyMatch должен прекращать обход на первом совпадении");
+        assertFalse(list.query().mapToLong(i -> i).anyMatch(v -> v > 100), "Подходящих значений нет");
+    }
+
+    @Test
+    void testFusedPipelineAllocatesOnlyResult() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Счётчик выделенной памяти потока недоступен");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Integer[] values = new Integer[1_000_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 100;
+        }
+        MyArrayList<Integer> list = MyArrayList.fromArray(values, false);
+        long expected = sumOfPipeline(list);
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        long actual = sumOfPipeline(list);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertEquals(expected, actual, "Повторный запуск должен давать тот же результат");
+        assertTrue(allocated < 64 * 1024,
+                "Конвейер над 1 000 000 элементов не должен выделять память на элемент, выделено байт: " + allocated);
+    }
+
+    private static long sumOfPipeline(MyList<Integer> list) {
+        return list.query()
+                .filter(i -> i % 3 != 0)
+                .skip(10)
+                .mapToLong(Integer::longValue)
+                .map(v -> v * 2)
+                .filter(v -> v > 10)
+                .sum();
+    }
+
+    @Test
+    void testCollect() {
+        MyLinkedList<Integer> list = fill(new MyLinkedList<>(), 5);
+        MyLinkedList<Integer> copy = list.query().collect(MyLinkedList::new, MyLinkedList::add);
+        assertEquals("[0, 1, 2, 3, 4]", copy.toString(), "collect должен собирать элементы в заданный контейнер");
+    }
+}
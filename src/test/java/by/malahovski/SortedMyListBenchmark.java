@@ -0,0 +1,153 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static by.malahovski.BenchmarkSupport.bestNanosPerOperation;
+import static by.malahovski.BenchmarkSupport.report;
+import static by.malahovski.BenchmarkSupport.reportSpeedup;
+
+/**
+ * Сравнение {@link SortedMyList} с сортировкой {@link MyArrayList} на нагрузках
+ * с частыми вставками и запросами диапазонов меток времени.
+ * Запуск: {@code mvn test -Dtest=SortedMyListBenchmark}.
+ */
+class SortedMyListBenchmark {
+
+    private static final int INSERTS = 100_000;
+    private static final int INTERLEAVED_INSERTS = 20_000;
+    private static final int QUERY_EVERY = 500;
+    private static final int RANGE_QUERIES = 1_000;
+    private static final long RANGE_WIDTH = 1_000_000L;
+
+    private final Long[] timestamps = randomTimestamps(INSERTS);
+
+    @Test
+    void insertThenScan() {
+        double sorted = bestNanosPerOperation(INSERTS, () -> {
+            SortedMyList<Long> list = new SortedMyList<>();
+            for (Long timestamp : timestamps) {
+                list.add(timestamp);
+            }
+            BenchmarkSupport.blackhole += scan(list, 0L, Long.MAX_VALUE);
+            return 0L;
+        });
+        double array = bestNanosPerOperation(INSERTS, () -> {
+            MyArrayList<Long> list = new MyArrayList<>();
+            for (Long timestamp : timestamps) {
+                list.add(timestamp);
+            }
+            BenchmarkSupport.blackhole += scan(sortedCopy(list), 0L, Long.MAX_VALUE);
+            return 0L;
+        });
+        report("Вставка " + INSERTS + " + скан: SortedMyList", sorted);
+        report("Вставка " + INSERTS + " + скан: MyArrayList + сортировка", array);
+        reportSpeedup("Ускорение SortedMyList", array, sorted);
+    }
+
+    @Test
+    void interleavedInsertsAndRangeQueries() {
+        double sorted = bestNanosPerOperation(INTERLEAVED_INSERTS, () -> {
+            SortedMyList<Long> list = new SortedMyList<>();
+            for (int i = 0; i < INTERLEAVED_INSERTS; i++) {
+                list.add(timestamps[i]);
+                if (i % QUERY_EVERY == 0) {
+                    long from = timestamps[i];
+                    BenchmarkSupport.blackhole += scan(list, from, from + RANGE_WIDTH);
+                }
+            }
+            return 0L;
+        });
+        double array = bestNanosPerOperation(INTERLEAVED_INSERTS, () -> {
+            MyArrayList<Long> list = new MyArrayList<>();
+            for (int i = 0; i < INTERLEAVED_INSERTS; i++) {
+                list.add(timestamps[i]);
+                if (i % QUERY_EVERY == 0) {
+                    long from = timestamps[i];
+                    BenchmarkSupport.blackhole += scan(sortedCopy(list), from, from + RANGE_WIDTH);
+                }
+            }
+            return 0L;
+        });
+        report("Вставки с запросом каждые " + QUERY_EVERY + ": SortedMyList", sorted);
+        report("Вставки с запросом каждые " + QUERY_EVERY + ": MyArrayList + сортировка", array);
+        reportSpeedup("Ускорение SortedMyList", array, sorted);
+    }
+
+    @Test
+    void rangeScansOnPreparedData() {
+        SortedMyList<Long> sortedList = new SortedMyList<>();
+        MyArrayList<Long> arrayList = new MyArrayList<>();
+        for (Long timestamp : timestamps) {
+            sortedList.add(timestamp);
+            arrayList.add(timestamp);
+        }
+        Long[] sortedArray = sortedCopy(arrayList);
+        double sorted = bestNanosPerOperation(RANGE_QUERIES, () -> {
+            for (int i = 0; i < RANGE_QUERIES; i++) {
+                BenchmarkSupport.blackhole += scan(sortedList, timestamps[i], timestamps[i] + RANGE_WIDTH);
+            }
+            return 0L;
+        });
+        double array = bestNanosPerOperation(RANGE_QUERIES, () -> {
+            for (int i = 0; i < RANGE_QUERIES; i++) {
+                BenchmarkSupport.blackhole += scan(sortedArray, timestamps[i], timestamps[i] + RANGE_WIDTH);
+            }
+            return 0L;
+        });
+        report("Запрос диапазона: SortedMyList.range", sorted);
+        report("Запрос диапазона: отсортированный массив", array);
+        reportSpeedup("Отношение (массив / SortedMyList)", array, sorted);
+    }
+
+    private static long scan(SortedMyList<Long> list, long from, long to) {
+        long sum = 0;
+        for (Long value : list.range(from, to)) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static long scan(Long[] sorted, long from, long to) {
+        long sum = 0;
+        for (int i = lowerBound(sorted, from); i < sorted.length && sorted[i] < to; i++) {
+            sum += sorted[i];
+        }
+        return sum;
+    }
+
+    private static Long[] sortedCopy(MyArrayList<Long> list) {
+        Long[] copy = new Long[list.size()];
+        int i = 0;
+        for (Long value : list) {
+            copy[i++] = value;
+        }
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static int lowerBound(Long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Long[] randomTimestamps(int count) {
+        Random random = new Random(26);
+        Long[] result = new Long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = 1_700_000_000_000L + (random.nextLong() & 0xFFFFFFFFFL);
+        }
+        return result;
+    }
+}
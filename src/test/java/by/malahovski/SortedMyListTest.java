@@ -0,0 +1,128 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedMyListTest {
+
+    private SortedMyList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new SortedMyList<>();
+    }
+
+    @Test
+    void testAddKeepsOrder() {
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        assertEquals("[1, 2, 3]", list.toString(), "Элементы должны храниться в порядке сортировки");
+        assertEquals(1, list.get(0), "Первый элемент должен быть наименьшим");
+        assertEquals(3, list.get(2), "Последний элемент должен быть наибольшим");
+    }
+
+    @Test
+    void testCustomComparator() {
+        SortedMyList<String> strings = new SortedMyList<>(Comparator.reverseOrder());
+        strings.add("A");
+        strings.add("C");
+        strings.add("B");
+        assertEquals("[C, B, A]", strings.toString(), "Порядок должен задаваться компаратором");
+    }
+
+    @Test
+    void testIndexOfAndContains() {
+        list.add(5);
+        list.add(7);
+        list.add(5);
+        list.add(1);
+        assertEquals(1, list.indexOf(5), "indexOf должен возвращать первое вхождение");
+        assertEquals(-1, list.indexOf(6), "Для отсутствующего элемента ожидается -1");
+        assertTrue(list.contains(7), "Элемент 7 должен содержаться в списке");
+    }
+
+    @Test
+    void testRemove() {
+        list.add(2);
+        list.add(1);
+        list.add(3);
+        assertTrue(list.remove(Integer.valueOf(2)), "Элемент 2 должен быть удалён");
+        assertFalse(list.remove(Integer.valueOf(4)), "Отсутствующий элемент не должен удаляться");
+        assertEquals(3, list.remove(1), "remove по индексу должен вернуть удалённый элемент");
+        assertEquals("[1]", list.toString(), "В списке должен остаться один элемент");
+    }
+
+    @Test
+    void testRange() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        List<Integer> range = new ArrayList<>();
+        for (Integer value : list.range(250, 260)) {
+            range.add(value);
+        }
+        assertEquals(10, range.size(), "Диапазон [250, 260) должен содержать 10 элементов");
+        assertEquals(250, range.get(0), "Нижняя граница диапазона включается");
+        assertEquals(259, range.get(9), "Верхняя граница диапазона исключается");
+        assertThrows(IllegalArgumentException.class, () -> list.range(5, 1), "Ожидается исключение, если нижняя граница больше верхней");
+    }
+
+    @Test
+    void testEmptyRange() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertFalse(list.range(50, 50).iterator().hasNext(), "Диапазон [50, 50) должен быть пустым");
+        assertFalse(list.range(200, 300).iterator().hasNext(), "Диапазон за пределами элементов должен быть пустым");
+    }
+
+    @Test
+    void testUnsupportedPositionalOperations() {
+        list.add(1);
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 2), "Вставка по индексу не поддерживается");
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 2), "Замена по индексу не поддерживается");
+    }
+
+    @Test
+    void testInvalidIndexAccess() {
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1), "Ожидается исключение для индекса 1");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1), "Ожидается исключение для индекса -1");
+    }
+
+    @Test
+    void testMatchesSortedArrayListOnManyOperations() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(5000);
+            list.add(value);
+            expected.add(value);
+        }
+        Collections.sort(expected);
+        for (int i = 0; i < 15000; i++) {
+            if (random.nextBoolean()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index), "remove по индексу должен совпадать с эталоном");
+            } else {
+                Integer value = random.nextInt(5000);
+                assertEquals(expected.remove(value), list.remove(value), "remove по значению должен совпадать с эталоном");
+            }
+        }
+        assertEquals(expected.size(), list.size(), "Размеры должны совпадать");
+        int i = 0;
+        for (Integer value : list) {
+            assertEquals(expected.get(i), list.get(i), "get должен совпадать с эталоном");
+            assertEquals(expected.get(i++), value, "Итератор должен совпадать с эталоном");
+        }
+    }
+}
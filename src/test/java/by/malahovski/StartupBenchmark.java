@@ -0,0 +1,121 @@
+package by.malahovski;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static by.malahovski.BenchmarkSupport.bestNanosPerOperation;
+import static by.malahovski.BenchmarkSupport.report;
+import static by.malahovski.BenchmarkSupport.reportSpeedup;
+
+/**
+ * Время до готовности списков при старте: сотни списков заполняются из массивов
+ * конфигурации поэлементным {@code add} (начиная с ёмкости {@code DEFAULT_CAPACITY}
+ * и с ростом массива) или пакетными фабриками {@code of}, {@code fromArray}
+ * и {@code fromCollection}. Результат — время построения одного списка.
+ * Запуск: {@code mvn test -Dtest=StartupBenchmark}.
+ */
+class StartupBenchmark {
+
+    private static final int LISTS = 500;
+    private static final int[] SIZES = {16, 256, 4096};
+
+    @Test
+    void timeToReady() {
+        // Первый проход прогревает все фабрики, чтобы порядок замеров не влиял на результат.
+        for (int size : SIZES) {
+            measure(size, false);
+        }
+        for (int size : SIZES) {
+            measure(size, true);
+        }
+    }
+
+    private static void measure(int size, boolean print) {
+        String[][] config = new String[LISTS][size];
+        for (int list = 0; list < LISTS; list++) {
+            for (int i = 0; i < size; i++) {
+                config[list][i] = "key" + list + "." + i;
+            }
+        }
+        List<List<String>> collections = Arrays.stream(config).map(Arrays::asList)
+                .collect(Collectors.toList());
+        Object[][] adoptable = Arrays.stream(config)
+                .map(array -> Arrays.copyOf(array, array.length, Object[].class))
+                .toArray(Object[][]::new);
+        String prefix = "размер " + size + ": ";
+
+        double arrayAdd = build(config, StartupBenchmark::addOneByOne);
+        double of = build(config, MyArrayList::of);
+        double fromArrayCopy = build(config, array -> MyArrayList.fromArray(array, true));
+        double fromArrayWrap = buildAdopted(adoptable);
+        double fromCollection = buildFromCollections(collections);
+        double linkedAdd = build(config, StartupBenchmark::linkOneByOne);
+        double linkedFromArray = build(config, MyLinkedList::fromArray);
+        if (!print) {
+            return;
+        }
+
+        report(prefix + "MyArrayList add по одному", arrayAdd);
+        report(prefix + "MyArrayList.of", of);
+        report(prefix + "MyArrayList.fromArray (копия)", fromArrayCopy);
+        report(prefix + "MyArrayList.fromArray (без копии)", fromArrayWrap);
+        report(prefix + "MyArrayList.fromCollection", fromCollection);
+        report(prefix + "MyLinkedList add по одному", linkedAdd);
+        report(prefix + "MyLinkedList.fromArray", linkedFromArray);
+        reportSpeedup(prefix + "add / of", arrayAdd, of);
+        reportSpeedup(prefix + "add / fromArray (копия)", arrayAdd, fromArrayCopy);
+        reportSpeedup(prefix + "add / fromArray (без копии)", arrayAdd, fromArrayWrap);
+        reportSpeedup(prefix + "add / fromCollection", arrayAdd, fromCollection);
+        reportSpeedup(prefix + "MyLinkedList add / fromArray", linkedAdd, linkedFromArray);
+    }
+
+    private static double build(String[][] config, Function<String[], MyList<String>> factory) {
+        return bestNanosPerOperation(LISTS, () -> {
+            for (String[] array : config) {
+                BenchmarkSupport.blackhole += factory.apply(array).size();
+            }
+            return 0L;
+        });
+    }
+
+    /**
+     * Без копирования используется только массив {@code Object[]}, более узкий тип копируется.
+     */
+    private static double buildAdopted(Object[][] config) {
+        return bestNanosPerOperation(LISTS, () -> {
+            for (Object[] array : config) {
+                BenchmarkSupport.blackhole += MyArrayList.fromArray(array, false).size();
+            }
+            return 0L;
+        });
+    }
+
+    private static double buildFromCollections(List<List<String>> collections) {
+        return bestNanosPerOperation(LISTS, () -> {
+            for (List<String> collection : collections) {
+                BenchmarkSupport.blackhole += MyArrayList.fromCollection(collection).size();
+            }
+            return 0L;
+        });
+    }
+
+    private static MyList<String> addOneByOne(String[] array) {
+        MyArrayList<String> list = new MyArrayList<>();
+        for (String element : array) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    private static MyList<String> linkOneByOne(String[] array) {
+        MyLinkedList<String> list = new MyLinkedList<>();
+        for (String element : array) {
+            list.add(element);
+        }
+        return list;
+    }
+}